@@ -4,9 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 import net.causw.adapter.persistence.base.BaseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
 @Getter
@@ -37,6 +41,17 @@ public class CrawledNotice extends BaseEntity {
     @Column(name = "image_link", nullable = true)
     private String imageLink;
 
+    // 조건부 요청(If-None-Match / If-Modified-Since)에 사용하는 상세 페이지의 응답 헤더 값
+    @Column(name = "etag", nullable = true)
+    private String etag;
+
+    @Column(name = "last_modified", nullable = true)
+    private String lastModified;
+
+    // 크롤링한 내용의 SHA-256 해시, 수정된 공지사항 감지에 사용
+    @Column(name = "content_hash", length = 64, nullable = true)
+    private String contentHash;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "crawled_notice_id", nullable = true)
     @Builder.Default
@@ -50,7 +65,9 @@ public class CrawledNotice extends BaseEntity {
             String author,
             String announceDate,
             String imageLink,
-            List<CrawledFileLink> crawledFileLinks
+            List<CrawledFileLink> crawledFileLinks,
+            String etag,
+            String lastModified
     ) {
         // String -> LocalDate
         LocalDate parsedDate = LocalDate.parse(announceDate, DateTimeFormatter.ISO_LOCAL_DATE);
@@ -68,6 +85,59 @@ public class CrawledNotice extends BaseEntity {
                 .announceDate(parsedDate)
                 .imageLink(imageLink)
                 .crawledFileLinks(crawledFileLinks)
+                .etag(etag)
+                .lastModified(lastModified)
+                .contentHash(hashContent(type, title, content, author, parsedDate, imageLink, crawledFileLinks))
                 .build();
     }
+
+    public void update(CrawledNotice crawledNotice) {
+        this.type = crawledNotice.getType();
+        this.title = crawledNotice.getTitle();
+        this.content = crawledNotice.getContent();
+        this.author = crawledNotice.getAuthor();
+        this.announceDate = crawledNotice.getAnnounceDate();
+        this.imageLink = crawledNotice.getImageLink();
+        this.etag = crawledNotice.getEtag();
+        this.lastModified = crawledNotice.getLastModified();
+        this.contentHash = crawledNotice.getContentHash();
+
+        if (this.crawledFileLinks == null) {
+            this.crawledFileLinks = new ArrayList<>();
+        }
+        this.crawledFileLinks.clear();
+        if (crawledNotice.getCrawledFileLinks() != null) {
+            this.crawledFileLinks.addAll(crawledNotice.getCrawledFileLinks());
+        }
+    }
+
+    private static String hashContent(
+            String type,
+            String title,
+            String content,
+            String author,
+            LocalDate announceDate,
+            String imageLink,
+            List<CrawledFileLink> crawledFileLinks
+    ) {
+        StringBuilder builder = new StringBuilder()
+                .append(type).append('\n')
+                .append(title).append('\n')
+                .append(author).append('\n')
+                .append(announceDate).append('\n')
+                .append(imageLink).append('\n')
+                .append(content);
+        if (crawledFileLinks != null) {
+            crawledFileLinks.forEach(crawledFileLink -> builder.append('\n')
+                    .append(crawledFileLink.getFileName()).append('\t')
+                    .append(crawledFileLink.getFileLink()));
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 import net.causw.adapter.persistence.base.BaseEntity;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
@@ -31,23 +34,67 @@ public class ReplyQuestion extends BaseEntity {
     @Column(name = "question_answer", columnDefinition = "TEXT")
     private String questionAnswer;
 
+    // 이전 버전과의 호환을 위해 기록만 하며, 조회에는 selectedOptionMask 를 사용
     @Column(name = "selected_option_list", nullable = true)
     private String selectedOptionList;
 
+    // 1 ~ 64 번 선지의 선택 여부 비트마스크, null 이면 아직 마이그레이션되지 않은 행
+    @Column(name = "selected_option_mask", nullable = true)
+    private Long selectedOptionMask;
+
+    @Column(name = "has_overflow_option", nullable = true)
+    private Boolean hasOverflowOption;
+
+    // 비트마스크로 표현할 수 없는 번호의 선지
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "tb_reply_question_overflow_option", joinColumns = @JoinColumn(name = "reply_question_id"))
+    @Column(name = "option_number", nullable = false)
+    @Builder.Default
+    private Set<Integer> overflowOptionSet = new HashSet<>();
+
     public static ReplyQuestion of(
             FormQuestion formQuestion,
             String questionAnswer,
             List<Integer> selectedOptionList
     ) {
+        Set<Integer> overflowOptionSet = selectedOptionList == null
+                ? new HashSet<>()
+                : selectedOptionList.stream()
+                        .filter(selectedOption -> !ReplySelectedOptionManager.isMaskable(selectedOption))
+                        .collect(Collectors.toCollection(HashSet::new));
+
         return ReplyQuestion.builder()
                 .formQuestion(formQuestion)
                 .questionAnswer(questionAnswer)
                 .selectedOptionList(ReplySelectedOptionManager.fromIntegerList(selectedOptionList).serialize())
+                .selectedOptionMask(ReplySelectedOptionManager.toMask(selectedOptionList))
+                .hasOverflowOption(!overflowOptionSet.isEmpty())
+                .overflowOptionSet(overflowOptionSet)
                 .build();
     }
 
     public List<Integer> getSelectedOptionList() {
-        return ReplySelectedOptionManager.fromString(this.selectedOptionList).getSelectedOptionList();
+        if (this.selectedOptionMask == null) {
+            return ReplySelectedOptionManager.fromString(this.selectedOptionList).getSelectedOptionList();
+        }
+
+        List<Integer> selectedOptionList = ReplySelectedOptionManager.fromMask(this.selectedOptionMask);
+        if (Boolean.TRUE.equals(this.hasOverflowOption)) {
+            selectedOptionList.addAll(this.overflowOptionSet);
+            selectedOptionList.sort(Integer::compareTo);
+        }
+        return selectedOptionList;
+    }
+
+    public boolean isOptionSelected(int optionNumber) {
+        if (this.selectedOptionMask == null) {
+            return ReplySelectedOptionManager.fromString(this.selectedOptionList).getSelectedOptionList().contains(optionNumber);
+        }
+
+        if (ReplySelectedOptionManager.isMaskable(optionNumber)) {
+            return ReplySelectedOptionManager.isSelected(this.selectedOptionMask, optionNumber);
+        }
+        return Boolean.TRUE.equals(this.hasOverflowOption) && this.overflowOptionSet.contains(optionNumber);
     }
 
 }
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Getter
@@ -59,4 +60,36 @@ public class ReplySelectedOptionManager {
         return replySelectedOptionManager;
     }
 
+    // 1 ~ 64 번 선지는 long 비트마스크의 (번호 - 1) 번째 비트로 저장하고, 그 외의 번호는 별도 테이블에 저장
+    public static boolean isMaskable(int optionNumber) {
+        return optionNumber >= 1 && optionNumber <= Long.SIZE;
+    }
+
+    public static long toMask(Collection<Integer> selectedOptionList) {
+        long mask = 0L;
+        if (selectedOptionList == null) {
+            return mask;
+        }
+        for (Integer selectedOption : selectedOptionList) {
+            if (isMaskable(selectedOption)) {
+                mask |= 1L << (selectedOption - 1);
+            }
+        }
+        return mask;
+    }
+
+    public static boolean isSelected(long mask, int optionNumber) {
+        return isMaskable(optionNumber) && (mask & (1L << (optionNumber - 1))) != 0;
+    }
+
+    public static List<Integer> fromMask(long mask) {
+        List<Integer> selectedOptionList = new ArrayList<>(Long.bitCount(mask));
+        long remainMask = mask;
+        while (remainMask != 0) {
+            selectedOptionList.add(Long.numberOfTrailingZeros(remainMask) + 1);
+            remainMask &= remainMask - 1;
+        }
+        return selectedOptionList;
+    }
+
 }
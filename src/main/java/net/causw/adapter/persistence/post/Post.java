@@ -21,6 +21,7 @@ import java.util.List;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Table(name = "tb_post", indexes = {
         @Index(name = "board_id_index", columnList = "board_id"),
+        @Index(name = "board_id_created_at_id_index", columnList = "board_id, created_at, id"),
         @Index(name = "user_id_index", columnList = "user_id"),
         @Index(name = "form_id_index", columnList = "form_id")
 })
@@ -65,6 +66,34 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "vote_id" , unique = true)
     private Vote vote;
 
+    // 목록 조회 시 COUNT 쿼리를 피하기 위한 비정규화 카운터
+    // 엔티티 flush 로 덮어쓰지 않도록 updatable = false 로 두고, PostRepository 의 원자적 UPDATE 로만 갱신합니다.
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long commentCount = 0L;
+
+    @Column(name = "child_comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long childCommentCount = 0L;
+
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long likeCount = 0L;
+
+    @Column(name = "favorite_count", nullable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long favoriteCount = 0L;
+
+    // 사용자 기준 고유 조회수, Redis HyperLogLog 에 누적된 값을 PostViewCountService 가 주기적으로 반영합니다.
+    @Column(name = "view_count", nullable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long viewCount = 0L;
+
     public static Post of(
             String title,
             String content,
@@ -4,11 +4,13 @@ import net.causw.adapter.persistence.comment.ChildComment;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,6 +22,12 @@ public interface ChildCommentRepository extends JpaRepository<ChildComment, Stri
     @Query("select c from ChildComment c where c.parentComment.id = :parentCommentId")
     List<ChildComment> findByParentComment_Id(@Param("parentCommentId") String parentCommentId);
 
+    @EntityGraph(attributePaths = {"writer", "writer.userProfileImage", "writer.locker"})
+    @Query("SELECT cc FROM ChildComment cc " +
+            "WHERE cc.parentComment.id IN :parentCommentIds " +
+            "ORDER BY cc.createdAt ASC")
+    List<ChildComment> findByParentCommentIds(@Param("parentCommentIds") Collection<String> parentCommentIds);
+
     @Query("SELECT DISTINCT p " +
             "FROM ChildComment cc " +
             "JOIN cc.parentComment c " +
@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence.repository.comment;
+
+// 댓글(또는 대댓글) id 별 집계(GROUP BY) 결과를 받기 위한 projection
+public interface CommentCountProjection {
+    String getCommentId();
+
+    Long getTotal();
+}
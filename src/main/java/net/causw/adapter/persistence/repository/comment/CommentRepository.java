@@ -4,6 +4,7 @@ import net.causw.adapter.persistence.comment.Comment;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, String> {
+    // 작성자 정보를 함께 조회하여 댓글마다 작성자를 조회하지 않도록 합니다.
+    @EntityGraph(attributePaths = {"writer", "writer.userProfileImage", "writer.locker"})
     Page<Comment> findByPost_IdOrderByCreatedAt(String postId, Pageable pageable);
 
     Boolean existsByPostIdAndIsDeletedFalse(String postId);
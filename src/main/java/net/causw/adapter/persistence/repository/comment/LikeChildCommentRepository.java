@@ -2,10 +2,25 @@ package net.causw.adapter.persistence.repository.comment;
 
 import net.causw.adapter.persistence.comment.LikeChildComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LikeChildCommentRepository extends JpaRepository<LikeChildComment, Long> {
     Boolean existsByChildCommentIdAndUserId(String childCommentId, String userId);
 
     Long countByChildCommentId(String childCommentId);
 
+    @Query("SELECT lcc.childComment.id AS commentId, COUNT(lcc) AS total " +
+            "FROM LikeChildComment lcc " +
+            "WHERE lcc.childComment.id IN :childCommentIds " +
+            "GROUP BY lcc.childComment.id")
+    List<CommentCountProjection> countByChildCommentIds(@Param("childCommentIds") Collection<String> childCommentIds);
+
+    @Query("SELECT lcc.childComment.id FROM LikeChildComment lcc " +
+            "WHERE lcc.user.id = :userId AND lcc.childComment.id IN :childCommentIds")
+    List<String> findChildCommentIdsByUserIdAndChildCommentIds(@Param("userId") String userId, @Param("childCommentIds") Collection<String> childCommentIds);
+
 }
@@ -2,10 +2,25 @@ package net.causw.adapter.persistence.repository.comment;
 
 import net.causw.adapter.persistence.comment.LikeComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LikeCommentRepository extends JpaRepository<LikeComment, Long> {
     Boolean existsByCommentIdAndUserId(String commentId, String UserId);
 
     Long countByCommentId(String commentId);
 
+    @Query("SELECT lc.comment.id AS commentId, COUNT(lc) AS total " +
+            "FROM LikeComment lc " +
+            "WHERE lc.comment.id IN :commentIds " +
+            "GROUP BY lc.comment.id")
+    List<CommentCountProjection> countByCommentIds(@Param("commentIds") Collection<String> commentIds);
+
+    @Query("SELECT lc.comment.id FROM LikeComment lc " +
+            "WHERE lc.user.id = :userId AND lc.comment.id IN :commentIds")
+    List<String> findCommentIdsByUserIdAndCommentIds(@Param("userId") String userId, @Param("commentIds") Collection<String> commentIds);
+
 }
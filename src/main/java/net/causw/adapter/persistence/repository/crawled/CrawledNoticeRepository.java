@@ -3,6 +3,18 @@ package net.causw.adapter.persistence.repository.crawled;
 
 import net.causw.adapter.persistence.crawled.CrawledNotice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CrawledNoticeRepository extends JpaRepository<CrawledNotice, String> {
+
+    // 이미 크롤링한 공지사항의 조건부 요청 정보만 조회
+    @Query("SELECT n.link AS link, n.etag AS etag, n.lastModified AS lastModified, n.contentHash AS contentHash " +
+            "FROM CrawledNotice n WHERE n.link IN :links")
+    List<CrawledNoticeStateProjection> findStateByLinkIn(@Param("links") Collection<String> links);
+
+    List<CrawledNotice> findAllByLinkIn(Collection<String> links);
 }
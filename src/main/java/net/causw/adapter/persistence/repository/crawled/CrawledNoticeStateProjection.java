@@ -0,0 +1,11 @@
+package net.causw.adapter.persistence.repository.crawled;
+
+public interface CrawledNoticeStateProjection {
+    String getLink();
+
+    String getEtag();
+
+    String getLastModified();
+
+    String getContentHash();
+}
@@ -0,0 +1,7 @@
+package net.causw.adapter.persistence.repository.form;
+
+public interface OptionSelectedCountProjection {
+    String getOptionId();
+
+    Long getTotal();
+}
@@ -1,9 +1,13 @@
 package net.causw.adapter.persistence.repository.form;
 
-import net.causw.adapter.persistence.form.Form;
+import net.causw.adapter.persistence.form.FormQuestion;
 import net.causw.adapter.persistence.form.ReplyQuestion;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +16,35 @@ public interface ReplyQuestionRepository extends JpaRepository<ReplyQuestion, St
 
     @NotNull Optional<ReplyQuestion> findById(@NotNull String id);
 
-    List<ReplyQuestion> findAllByReplyForm(Form form);
+    // 신청서의 객관식 선지별 선택 횟수를 DB 에서 집계 (선택되지 않은 선지는 결과에 없음)
+    @Query(value = "SELECT o.id AS optionId, COUNT(rq.id) AS total " +
+            "FROM tb_form_question_option o " +
+            "JOIN tb_form_question q ON q.id = o.form_question_id " +
+            "JOIN tb_reply_question rq ON rq.form_question_id = q.id AND (" +
+            "(o.number BETWEEN 1 AND 64 AND (rq.selected_option_mask >> (o.number - 1)) & 1 = 1) " +
+            "OR (rq.has_overflow_option = true AND EXISTS (SELECT 1 FROM tb_reply_question_overflow_option x " +
+            "WHERE x.reply_question_id = rq.id AND x.option_number = o.number)) " +
+            // 마이그레이션 전 행
+            "OR (rq.selected_option_mask IS NULL AND FIND_IN_SET(o.number, rq.selected_option_list) > 0)) " +
+            "WHERE q.form_id = :formId " +
+            "GROUP BY o.id", nativeQuery = true)
+    List<OptionSelectedCountProjection> countSelectedGroupByOption(@Param("formId") String formId);
+
+    // 신청서의 주관식 질문별 답변 수와 앞쪽 size 개의 답변만 DB 에서 조회 (나머지는 findAnswerByFormQuestion 으로 페이징 조회)
+    @Query(value = "SELECT t.formQuestionId, t.questionAnswer, t.total FROM (" +
+            "SELECT rq.form_question_id AS formQuestionId, rq.question_answer AS questionAnswer, " +
+            "COUNT(*) OVER (PARTITION BY rq.form_question_id) AS total, " +
+            "ROW_NUMBER() OVER (PARTITION BY rq.form_question_id ORDER BY rq.created_at ASC, rq.id ASC) AS rowNum " +
+            "FROM tb_reply_question rq " +
+            "JOIN tb_form_question q ON q.id = rq.form_question_id " +
+            "WHERE q.form_id = :formId AND q.question_type = 'SUBJECTIVE') t " +
+            "WHERE t.rowNum <= :size " +
+            "ORDER BY t.formQuestionId, t.rowNum", nativeQuery = true)
+    List<SubjectiveAnswerProjection> findSubjectiveAnswerFirstPageByForm(@Param("formId") String formId,
+                                                                         @Param("size") int size);
+
+    @Query(value = "SELECT rq.questionAnswer FROM ReplyQuestion rq WHERE rq.formQuestion = :formQuestion ORDER BY rq.createdAt ASC, rq.id ASC",
+            countQuery = "SELECT COUNT(rq) FROM ReplyQuestion rq WHERE rq.formQuestion = :formQuestion")
+    Page<String> findAnswerByFormQuestion(@Param("formQuestion") FormQuestion formQuestion, Pageable pageable);
 
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import net.causw.adapter.persistence.form.Reply;
 import net.causw.adapter.persistence.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,10 +16,15 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     Boolean existsByFormAndUser(Form form, User writer);
 
+    @EntityGraph(attributePaths = {"user"})
     Page<Reply> findAllByForm(Form form, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user"})
     List<Reply> findAllByForm(Form form);
 
+    @EntityGraph(attributePaths = {"user"})
+    List<Reply> findByForm_IdAndIdGreaterThanOrderByIdAsc(String formId, String id, Pageable pageable);
+
     List<Reply> findByFormAndUser(Form form, User user);
 
 }
@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence.repository.form;
+
+public interface SubjectiveAnswerProjection {
+    String getFormQuestionId();
+
+    String getQuestionAnswer();
+
+    // 질문의 전체 답변 수
+    Long getTotal();
+}
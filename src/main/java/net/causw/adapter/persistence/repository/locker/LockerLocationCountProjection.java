@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence.repository.locker;
+
+// 사물함 위치 별 집계(GROUP BY) 결과를 받기 위한 projection
+public interface LockerLocationCountProjection {
+    String getLocationId();
+
+    Long getEnable();
+
+    Long getTotal();
+}
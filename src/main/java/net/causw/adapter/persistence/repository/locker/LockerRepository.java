@@ -1,13 +1,16 @@
 package net.causw.adapter.persistence.repository.locker;
 
 import net.causw.adapter.persistence.locker.Locker;
+import net.causw.adapter.persistence.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +29,40 @@ public interface LockerRepository extends JpaRepository<Locker, String> {
 
     Optional<Locker> findByUser_Id(String userId);
 
+    Optional<Locker> findByUser_IdAndIdNot(String userId, String id);
+
+    // 비어 있고 활성화된 사물함일 때만 사용자를 배정하며, 동시에 신청한 요청 중 하나만 1 을 반환합니다.
+    @Modifying
+    @Query("UPDATE Locker l " +
+            "SET l.user = :user, l.isActive = false, l.expireDate = :expireDate, l.updatedAt = :updatedAt " +
+            "WHERE l.id = :id AND l.user IS NULL AND l.isActive = true")
+    int claim(
+            @Param("id") String id,
+            @Param("user") User user,
+            @Param("expireDate") LocalDateTime expireDate,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
     List<Locker> findByLocation_IdOrderByLockerNumberAsc(String locationId);
 
+    @Query("SELECT l.lockerNumber FROM Locker l " +
+            "WHERE l.location.id = :locationId AND l.lockerNumber BETWEEN :startLockerNumber AND :endLockerNumber")
+    List<Long> findLockerNumbersInRange(
+            @Param("locationId") String locationId,
+            @Param("startLockerNumber") Long startLockerNumber,
+            @Param("endLockerNumber") Long endLockerNumber
+    );
+
 
     long countByLocationIdAndIsActiveIsTrueAndUserIdIsNull(String locationId);
 
     long countByLocationId(String locationId);
 
+    @Query("SELECT l.location.id AS locationId, " +
+            "SUM(CASE WHEN l.isActive = true AND l.user IS NULL THEN 1 ELSE 0 END) AS enable, " +
+            "COUNT(l) AS total " +
+            "FROM Locker l " +
+            "GROUP BY l.location.id")
+    List<LockerLocationCountProjection> countGroupByLocation();
+
 }
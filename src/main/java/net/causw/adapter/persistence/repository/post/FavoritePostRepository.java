@@ -14,8 +14,6 @@ public interface FavoritePostRepository extends JpaRepository<FavoritePost, Stri
 
     Optional<FavoritePost> findByPostIdAndUserId(String postId, String userId);
 
-    Long countByPostIdAndIsDeletedFalse(String postId);
-
     @Query("SELECT fp " +
             "FROM FavoritePost fp " +
             "JOIN fp.post p " +
@@ -5,6 +5,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface LikePostRepository extends JpaRepository<LikePost, String> {
     Boolean existsByPostIdAndUserId(String postId, String userId);
-
-    Long countByPostId(String postId);
 }
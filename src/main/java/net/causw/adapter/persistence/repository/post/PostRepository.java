@@ -4,11 +4,16 @@ import net.causw.adapter.persistence.form.Form;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,20 +22,77 @@ public interface PostRepository extends JpaRepository<Post, String> {
     Page<Post> findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId, Pageable pageable);
     Page<Post> findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(String boardId, Pageable pageable, boolean IsDeleted);
     Page<Post> findAllByBoard_IdOrderByCreatedAtDesc(String boardId, Pageable pageable);
+
+    // 커서(created_at, id) 기반 게시글 목록 조회, Slice 로 반환하여 COUNT 쿼리를 실행하지 않습니다.
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.board.id = :boardId AND (:includeDeleted = true OR p.isDeleted = false) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByBoardId(
+            @Param("boardId") String boardId,
+            @Param("includeDeleted") boolean includeDeleted,
+            Pageable pageable
+    );
+
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.board.id = :boardId AND (:includeDeleted = true OR p.isDeleted = false) " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorPostId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByBoardIdAfterCursor(
+            @Param("boardId") String boardId,
+            @Param("includeDeleted") boolean includeDeleted,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") String cursorPostId,
+            Pageable pageable
+    );
     Optional<Post> findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId);
     List<Post> findTop3ByBoard_IdAndIsDeletedOrderByCreatedAtDesc(String boardId, Boolean isDeleted);
 
-    //특정 게시판에서 삭제 여부와 관계없이 title 이 포함된 게시글 검색
-    @Query(value = "SELECT * " +
+    // 특정 게시판에서 제목/내용 전문 검색(FULLTEXT ngram 인덱스), 관련도 점수와 id 기준 커서 페이지네이션
+    // 부동소수점 점수는 커서로 주고받을 때 값이 달라질 수 있으므로 소수점 6자리 DECIMAL 로 고정하고, 같은 점수는 id 로 구분
+    @Query(value = "SELECT s.postId AS postId, s.score AS score " +
+            "FROM (" +
+            "SELECT p.id AS postId, CAST(MATCH(p.title, p.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE) AS DECIMAL(20, 6)) AS score " +
             "FROM tb_post AS p " +
-            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId ORDER BY p.created_at DESC", nativeQuery = true)
-    Page<Post> findByTitleAndBoard_Id(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable);
+            "WHERE p.board_id = :boardId AND (:includeDeleted = true OR p.is_deleted = false) " +
+            "AND MATCH(p.title, p.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE)" +
+            ") AS s " +
+            "WHERE :cursorScore IS NULL OR s.score < :cursorScore OR (s.score = :cursorScore AND s.postId < :cursorPostId) " +
+            "ORDER BY s.score DESC, s.postId DESC " +
+            "LIMIT :size", nativeQuery = true)
+    List<PostSearchProjection> searchByKeyword(
+            @Param("keyword") String keyword,
+            @Param("boardId") String boardId,
+            @Param("includeDeleted") boolean includeDeleted,
+            @Param("cursorScore") BigDecimal cursorScore,
+            @Param("cursorPostId") String cursorPostId,
+            @Param("size") int size
+    );
 
-    //특정 게시판에서 삭제 여부를 고려하여 title 이 포함된 게시글 검색
-    @Query(value = "SELECT * " +
-            "FROM tb_post AS p " +
-            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId AND p.is_deleted = :isDeleted ORDER BY p.created_at DESC", nativeQuery = true)
-    Page<Post> findByTitleBoard_IdAndDeleted(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable, @Param("isDeleted") boolean isDeleted);
+    // 특정 게시판에서 title 이 포함된 게시글 검색(최신순), 전문 검색을 쓸 수 없는 짧은 검색어나 인덱스 생성 전에 사용
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.board.id = :boardId AND (:includeDeleted = true OR p.isDeleted = false) " +
+            "AND p.title LIKE CONCAT('%', :keyword, '%') " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByBoardIdAndTitle(
+            @Param("boardId") String boardId,
+            @Param("includeDeleted") boolean includeDeleted,
+            @Param("keyword") String keyword,
+            Pageable pageable
+    );
+
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.board.id = :boardId AND (:includeDeleted = true OR p.isDeleted = false) " +
+            "AND p.title LIKE CONCAT('%', :keyword, '%') " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorPostId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByBoardIdAndTitleAfterCursor(
+            @Param("boardId") String boardId,
+            @Param("includeDeleted") boolean includeDeleted,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") String cursorPostId,
+            Pageable pageable
+    );
 
     // 특정 사용자가 작성한 게시글 검색
     @Query("SELECT p " +
@@ -48,18 +110,47 @@ public interface PostRepository extends JpaRepository<Post, String> {
     @Query(value = "SELECT DISTINCT p FROM Post p JOIN FETCH p.board WHERE p.id = :id")
     Optional<Post> findById(@Param("id") String id);
 
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false")
-    Long countCommentsByPostId(@Param("postId") String postId);
+    // 비정규화 카운터 원자적 증감
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    void addCommentCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.childCommentCount = p.childCommentCount + :delta WHERE p.id = :postId")
+    void addChildCommentCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    void addLikeCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.favoriteCount = p.favoriteCount + :delta WHERE p.id = :postId")
+    void addFavoriteCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    // 조회수는 Redis 의 누적값(기준값 + 고유 사용자 수)으로 덮어쓰며, 값이 줄어드는 방향으로는 갱신하지 않습니다.
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = :viewCount WHERE p.id = :postId AND p.viewCount < :viewCount")
+    void updateViewCount(@Param("postId") String postId, @Param("viewCount") long viewCount);
 
-    @Query("SELECT COUNT(cc) FROM ChildComment cc WHERE cc.parentComment.post.id = :postId AND cc.isDeleted = false")
-    Long countChildCommentsByPostId(@Param("postId") String postId);
+    // 카운터 보정 배치용: id 순으로 게시글 id 를 청크 단위로 조회
+    @Query("SELECT p.id FROM Post p WHERE p.id > :lastPostId ORDER BY p.id")
+    List<String> findIdsByIdGreaterThan(@Param("lastPostId") String lastPostId, Pageable pageable);
 
-    // 게시글에 작성된 모든댓글(댓글 + 대댓글)의 수 반환
-    default Long countAllCommentByPost_Id(String postId) {
-        Long commentCount = countCommentsByPostId(postId);
-        Long childCommentCount = countChildCommentsByPostId(postId);
-        return commentCount + childCommentCount;
-    }
+    // 카운터 보정 배치용: 원본 테이블 집계값으로 카운터를 한 번의 UPDATE 로 덮어씁니다.
+    // 값을 애플리케이션으로 읽어 오지 않으므로 조회와 갱신 사이에 바뀐 카운터를 덮어쓰지 않으며, 값이 같은 행은 MySQL 이 다시 쓰지 않습니다.
+    @Modifying
+    @Query(value = "UPDATE tb_post p " +
+            "SET p.comment_count = (" +
+            "SELECT COUNT(*) FROM tb_comment c WHERE c.post_id = p.id AND c.is_deleted = false), " +
+            "p.child_comment_count = (" +
+            "SELECT COUNT(*) FROM tb_child_comment cc JOIN tb_comment c ON c.id = cc.parent_comment_id " +
+            "WHERE c.post_id = p.id AND cc.is_deleted = false), " +
+            "p.like_count = (" +
+            "SELECT COUNT(*) FROM tb_like_post lp WHERE lp.post_id = p.id), " +
+            "p.favorite_count = (" +
+            "SELECT COUNT(*) FROM tb_favorite_post fp WHERE fp.post_id = p.id AND fp.is_deleted = false) " +
+            "WHERE p.id IN (:postIds)", nativeQuery = true)
+    int reconcileCounters(@Param("postIds") Collection<String> postIds);
 
     Optional<Post> findByForm(Form form);
 }
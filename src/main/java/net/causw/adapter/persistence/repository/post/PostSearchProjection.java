@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence.repository.post;
+
+import java.math.BigDecimal;
+
+// 전문 검색 결과(게시글 id, 관련도 점수)를 받기 위한 projection
+public interface PostSearchProjection {
+    String getPostId();
+
+    BigDecimal getScore();
+}
@@ -38,6 +38,8 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     List<User> findAllByState(UserState state);
 
+    List<User> findByStateAndIdGreaterThanOrderByIdAsc(UserState state, String id, Pageable pageable);
+
     Optional<User> findByStudentIdAndNameAndPhoneNumber(String studentId, String name, String phoneNumber);
 
     List<User> findByStudentIdAndStateAndAcademicStatus(String studentId, UserState userState, AcademicStatus academicStatus);
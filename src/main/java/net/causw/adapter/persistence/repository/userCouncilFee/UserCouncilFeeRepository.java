@@ -2,9 +2,12 @@ package net.causw.adapter.persistence.repository.userCouncilFee;
 
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.userCouncilFee.UserCouncilFee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +19,11 @@ public interface UserCouncilFeeRepository extends JpaRepository<UserCouncilFee,
 
     Optional<UserCouncilFee> findByUser(User user);
 
+    @EntityGraph(attributePaths = {"user", "councilFeeFakeUser"})
+    List<UserCouncilFee> findAllByUser_IdIn(Collection<String> userIds);
+
     Boolean existsByUser(User targetUser);
+
+    // 엑셀 내보내기용 id 순 청크 조회
+    List<UserCouncilFee> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
 }
@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence.repository.uuidFile;
+
+// 삭제 대상 파일의 id 와 S3 file key 만 조회하기 위한 projection
+public interface UuidFileKeyProjection {
+    String getId();
+
+    String getFileKey();
+}
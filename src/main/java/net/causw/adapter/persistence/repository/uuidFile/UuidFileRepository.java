@@ -2,16 +2,97 @@ package net.causw.adapter.persistence.repository.uuidFile;
 
 import net.causw.adapter.persistence.uuidFile.UuidFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UuidFileRepository extends JpaRepository<UuidFile, String> {
 
+    // 파일을 참조하는 모든 join 테이블에 대한 anti-join 조건 (tb_uuid_file 의 별칭은 f)
+    String NOT_REFERENCED_CONDITION =
+            "NOT EXISTS (SELECT 1 FROM tb_calendar_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_circle_main_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_event_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_post_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_user_academic_record_application_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_user_academic_record_log_attach_image j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_user_admission_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_user_admission_log_attach_image_uuid_file j WHERE j.uuid_file_id = f.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tb_user_profile_uuid_file j WHERE j.uuid_file_id = f.id) ";
+
     Optional<UuidFile> findByFileUrl(String fileUrl);
 
-    List<UuidFile> findAllByIsUsed(Boolean isUsed);
+    // 미사용으로 표시된 뒤 다시 참조된 파일만 사용 중으로 되돌림 (join 테이블 별 한 번의 UPDATE)
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_calendar_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByCalendarAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_circle_main_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByCircleMainImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_event_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByEventAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_post_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByPostAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_user_academic_record_application_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByUserAcademicRecordApplicationAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_user_academic_record_log_attach_image j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByUserAcademicRecordLogAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_user_admission_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByUserAdmissionAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_user_admission_log_attach_image_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByUserAdmissionLogAttachImage();
+
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f JOIN tb_user_profile_uuid_file j ON j.uuid_file_id = f.id " +
+            "SET f.is_used = true WHERE f.is_used = false", nativeQuery = true)
+    int markUsedByUserProfileImage();
+
+    // 유예 기간이 지났고 어떤 join 테이블에서도 참조하지 않는 파일만 미사용으로 표시
+    // [lowerId, upperId) 범위의 파일만 처리하며, upperId 가 빈 문자열이면 상한 없이 처리
+    @Modifying
+    @Query(value = "UPDATE tb_uuid_file f SET f.is_used = false " +
+            "WHERE f.id >= :lowerId AND (:upperId = '' OR f.id < :upperId) " +
+            "AND f.is_used = true AND f.created_at < :cutoff AND " + NOT_REFERENCED_CONDITION, nativeQuery = true)
+    int markUnusedIfNotReferenced(@Param("cutoff") LocalDateTime cutoff,
+                                  @Param("lowerId") String lowerId,
+                                  @Param("upperId") String upperId);
+
+    // 삭제 직전에도 참조 여부를 다시 확인하여, 표시 이후 참조된 파일은 삭제 대상에서 제외
+    // lastId 이후부터 upperId 전까지 id 순으로 조회하여 재시작 시 이어서 처리할 수 있도록 함
+    @Query(value = "SELECT f.id AS id, f.file_key AS fileKey FROM tb_uuid_file f " +
+            "WHERE f.id > :lastId AND (:upperId = '' OR f.id < :upperId) " +
+            "AND f.is_used = false AND f.created_at < :cutoff AND " + NOT_REFERENCED_CONDITION +
+            "ORDER BY f.id LIMIT :size", nativeQuery = true)
+    List<UuidFileKeyProjection> findUnusedFileKeys(@Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("lastId") String lastId,
+                                                   @Param("upperId") String upperId,
+                                                   @Param("size") int size);
 
 }
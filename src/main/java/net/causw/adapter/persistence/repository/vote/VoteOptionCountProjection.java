@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence.repository.vote;
+
+// 투표 옵션 id 별 집계(GROUP BY) 결과를 받기 위한 projection
+public interface VoteOptionCountProjection {
+    String getVoteOptionId();
+
+    Long getTotal();
+}
@@ -2,14 +2,59 @@ package net.causw.adapter.persistence.repository.vote;
 
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.vote.Vote;
-import net.causw.adapter.persistence.vote.VoteOption;
 import net.causw.adapter.persistence.vote.VoteRecord;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface VoteRecordRepository extends JpaRepository<VoteRecord ,String> {
-    List<VoteRecord> findAllByVoteOption(VoteOption voteOption);
-    List<VoteRecord> findByVoteOption_VoteAndUser(Vote vote, User user);
+
+    // 잠금 읽기로 다른 트랜잭션이 커밋한 최신 기록까지 확인
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<VoteRecord> findForReadByVoteOption_IdAndUser_Id(String voteOptionId, String userId);
     boolean existsByVoteOption_VoteAndUser(Vote vote, User user);
+
+    boolean existsByVoteOption_Vote_IdAndUser_IdAndVoteOption_IdNot(String voteId, String userId, String voteOptionId);
+
+    @EntityGraph(attributePaths = {"user"})
+    Page<VoteRecord> findByVoteOption_IdOrderByCreatedAtAsc(String voteOptionId, Pageable pageable);
+
+    @Query("SELECT vr.voteOption.id AS voteOptionId, COUNT(vr) AS total " +
+            "FROM VoteRecord vr " +
+            "WHERE vr.voteOption.vote.id = :voteId " +
+            "GROUP BY vr.voteOption.id")
+    List<VoteOptionCountProjection> countByVoteIdGroupByVoteOption(@Param("voteId") String voteId);
+
+    // 종료되지 않은 투표의 옵션에 대해서만 한 번의 INSERT 로 기록합니다.
+    // unique 제약에 걸리는 중복 기록은 기존 행을 그대로 두고, 그 외의 오류(FK, 길이 초과 등)는 그대로 예외로 전달됩니다.
+    // 처리한(추가 또는 중복) 행 수를 반환하며, 요청 도중 투표가 종료되어 SELECT 결과가 없으면 0 을 반환합니다.
+    // ON DUPLICATE KEY UPDATE 절의 id 가 SELECT 쪽 컬럼과 겹치지 않도록 파생 테이블의 컬럼 이름을 따로 지정합니다.
+    @Modifying
+    @Query(value = "INSERT INTO tb_vote_record (id, created_at, updated_at, user_id, vote_option_id, single_choice_vote_id) " +
+            "SELECT * FROM (" +
+            "SELECT UUID() AS record_id, NOW() AS record_created_at, NOW() AS record_updated_at, :userId AS record_user_id, " +
+            "vo.id AS record_vote_option_id, CASE WHEN v.allow_multiple THEN NULL ELSE v.id END AS record_single_choice_vote_id " +
+            "FROM tb_vote_option vo " +
+            "JOIN tb_vote v ON v.id = vo.vote_id " +
+            "WHERE v.id = :voteId AND v.is_end = false AND vo.id IN (:voteOptionIds)" +
+            ") AS candidate " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int insertVoteRecords(
+            @Param("voteId") String voteId,
+            @Param("userId") String userId,
+            @Param("voteOptionIds") Collection<String> voteOptionIds
+    );
+
+    @Query("SELECT COUNT(DISTINCT vr.user.id) FROM VoteRecord vr WHERE vr.voteOption.vote.id = :voteId")
+    long countDistinctUserByVoteId(@Param("voteId") String voteId);
 }
@@ -12,7 +12,9 @@ import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import net.causw.domain.model.enums.user.GraduationType;
 import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.enums.user.UserState;
+import org.hibernate.annotations.BatchSize;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -67,6 +69,8 @@ public class User extends BaseEntity {
     @Column(name = "graduation_type", nullable = true)
     private GraduationType graduationType;
 
+    // 여러 사용자를 함께 조회할 때(댓글 작성자 등) 권한을 사용자마다 따로 조회하지 않도록 묶어서 조회
+    @BatchSize(size = 100)
     @ElementCollection(fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
     @Column(name = "role", nullable = false)
@@ -97,6 +101,37 @@ public class User extends BaseEntity {
     @Builder.Default
     private Boolean isV2 = true;
 
+    /*
+     * 인증 캐시(UserSnapshot)에 보관하거나 요청마다 꺼내 쓰기 위한 비영속 사본을 만듭니다.
+     * 비밀번호와 지연 로딩 컬렉션(circleMemberList, voteRecordList)은 복사하지 않으므로,
+     * 사본은 저장(merge)하지 말고 사용자 정보를 변경할 때는 DB 에서 다시 조회한 엔티티를 사용해야 합니다.
+     */
+    public User copyForAuthentication() {
+        return new User(this);
+    }
+
+    private User(User source) {
+        super(source.getId(), source.getCreatedAt(), source.getUpdatedAt());
+        this.email = source.email;
+        this.name = source.name;
+        this.phoneNumber = source.phoneNumber;
+        this.studentId = source.studentId;
+        this.admissionYear = source.admissionYear;
+        this.nickname = source.nickname;
+        this.major = source.major;
+        this.academicStatus = source.academicStatus;
+        this.currentCompletedSemester = source.currentCompletedSemester;
+        this.academicStatusNote = source.academicStatusNote;
+        this.graduationYear = source.graduationYear;
+        this.graduationType = source.graduationType;
+        this.roles = new HashSet<>(source.roles);
+        this.userProfileImage = source.userProfileImage;
+        this.state = source.state;
+        this.locker = source.locker;
+        this.rejectionOrDropReason = source.rejectionOrDropReason;
+        this.isV2 = source.isV2;
+    }
+
     public void delete() {
         this.email = "deleted_" + this.getId();
         this.name = "탈퇴한 사용자";
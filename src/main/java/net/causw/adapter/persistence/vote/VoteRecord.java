@@ -10,7 +10,10 @@ import net.causw.adapter.persistence.user.User;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_vote_record")
+@Table(name = "tb_vote_record", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vote_record_user_option", columnNames = {"user_id", "vote_option_id"}),
+        @UniqueConstraint(name = "uk_vote_record_single_choice", columnNames = {"single_choice_vote_id", "user_id"})
+})
 public class VoteRecord extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -21,10 +24,15 @@ public class VoteRecord extends BaseEntity {
     @JoinColumn(name = "vote_option_id")
     private VoteOption voteOption;
 
+    // 단일 선택 투표일 때만 투표 id 를 저장하여, 사용자당 하나의 기록만 허용하도록 unique 제약에 사용 (복수 선택 투표는 null)
+    @Column(name = "single_choice_vote_id")
+    private String singleChoiceVoteId;
+
     public static VoteRecord of(User user, VoteOption voteOption) {
         return VoteRecord.builder().
                 user(user)
                 .voteOption(voteOption)
+                .singleChoiceVoteId(voteOption.getVote().isAllowMultiple() ? null : voteOption.getVote().getId())
                 .build();
     }
 }
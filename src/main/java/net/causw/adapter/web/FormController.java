@@ -5,14 +5,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.form.response.FormExportJobResponseDto;
 import net.causw.application.dto.form.response.FormResponseDto;
 import net.causw.application.dto.form.response.reply.ReplyPageResponseDto;
 import net.causw.application.dto.form.request.FormReplyRequestDto;
 import net.causw.application.dto.form.response.QuestionSummaryResponseDto;
 import net.causw.application.dto.form.response.reply.UserReplyResponseDto;
+import net.causw.application.form.FormExportService;
 import net.causw.application.form.FormService;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +30,7 @@ import java.util.List;
 public class FormController {
 
     private final FormService formService;
+    private final FormExportService formExportService;
 
     @PutMapping("/{formId}/set-closed")
     @ResponseStatus(HttpStatus.OK)
@@ -88,7 +92,8 @@ public class FormController {
 
     @GetMapping("/{formId}/summary")
     @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "신청서 결과 요약 조회", description = "신청서 결과를 요약 조회합니다.")
+    @Operation(summary = "신청서 결과 요약 조회", description = "신청서 결과를 요약 조회합니다. " +
+            "주관식 질문은 총 응답 수와 첫 페이지의 답변만 반환하며, 나머지 답변은 주관식 답변 페이징 조회로 조회합니다.")
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     public List<QuestionSummaryResponseDto> findSummaryReply(
             @PathVariable(name = "formId") String formId,
@@ -97,6 +102,19 @@ public class FormController {
         return formService.findSummaryReply(formId, userDetails.getUser());
     }
 
+    @GetMapping("/{formId}/summary/{questionId}/answers")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "신청서 주관식 답변 페이징 조회", description = "신청서 결과 요약의 주관식 질문 답변을 페이징으로 조회합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public Page<String> findSummaryAnswerPage(
+            @PathVariable(name = "formId") String formId,
+            @PathVariable(name = "questionId") String questionId,
+            @ParameterObject Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return formService.findSummaryAnswerPage(formId, questionId, pageable, userDetails.getUser());
+    }
+
     @GetMapping("/{userId}/{circleId}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "동아리 신청서 답변 유저별 조회", description = "각 유저의 동아리 신청서에 대한 답변을 조회합니다.")
@@ -120,4 +138,29 @@ public class FormController {
     ){
         formService.exportFormResult(formId, userDetails.getUser(), response);
     }
+
+    @PostMapping("/{formId}/results/export-jobs")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "신청서 결과 엑셀 내보내기 작업 요청",
+            description = "신청서 결과 엑셀 생성을 백그라운드 작업으로 요청하고 작업 id 를 반환합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public FormExportJobResponseDto requestFormResultExport(
+            @PathVariable(name = "formId") String formId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return formExportService.requestExport(formId, userDetails.getUser());
+    }
+
+    @GetMapping("/{formId}/results/export-jobs/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "신청서 결과 엑셀 내보내기 작업 조회",
+            description = "내보내기 작업 상태를 조회합니다. 작업이 완료된 경우 만료 시간이 있는 다운로드 URL 을 함께 반환합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public FormExportJobResponseDto getFormResultExport(
+            @PathVariable(name = "formId") String formId,
+            @PathVariable(name = "jobId") String jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return formExportService.getExport(formId, jobId, userDetails.getUser());
+    }
 }
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.locker.LockerService;
+import net.causw.application.locker.LockerStateStreamService;
+import net.causw.application.dto.locker.LockerBulkCreateRequestDto;
 import net.causw.application.dto.locker.LockerExpiredAtRequestDto;
 import net.causw.application.dto.locker.LockerLocationsResponseDto;
 import net.causw.application.dto.locker.LockersResponseDto;
@@ -17,6 +19,7 @@ import net.causw.application.dto.locker.LockerResponseDto;
 import net.causw.application.dto.locker.LockerUpdateRequestDto;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -36,6 +40,16 @@ import java.util.List;
 @RequestMapping("/api/v1/lockers")
 public class LockerController {
     private final LockerService lockerService;
+    private final LockerStateStreamService lockerStateStreamService;
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "사물함 상태 변경 구독 Api", description = "사물함 신청/반납 등으로 바뀐 사물함 상태를 SSE(lockerState 이벤트)로 전달하는 Api 입니다.\n" +
+            "최초 한 번 사물함 목록을 조회한 뒤, 전달받은 사물함 id 기준으로 변경분만 반영하면 됩니다.")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public SseEmitter subscribe() {
+        return this.lockerStateStreamService.subscribe();
+    }
 
     @GetMapping(value = "/{lockerId}")
     @Operation(summary = "사물함 조회 Api(완료)", description = "사물함 id를 바탕으로 사물함 정보를 가져오는 Api 입니다.")
@@ -188,6 +202,19 @@ public class LockerController {
         this.lockerService.setExpireAt(userDetails.getUser(), lockerExpiredAtRequestDto);
     }
 
+    @PostMapping(value = "/bulk")
+    @Operation(summary = "사물함 일괄 생성 API(관리자)", description = "사물함 위치별 번호 범위를 받아 사물함을 한 번에 생성하는 API입니다.\n" +
+            "lockerRangeList 에는 사물함 위치 id와 시작/마지막 사물함 번호(양 끝 포함)를 입력해주세요.")
+    @ResponseStatus(value = HttpStatus.CREATED)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified() and " +
+            "hasAnyRole('ADMIN','PERSIDENT', 'VICE_PRESIDENT')")
+    public void createLockersInBulk(
+            @Valid @RequestBody LockerBulkCreateRequestDto lockerBulkCreateRequestDto,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        this.lockerService.createLockersInBulk(userDetails.getUser(), lockerBulkCreateRequestDto);
+    }
+
     @PostMapping(value = "/createAll")
     @Operation(summary = "사물함 전체 생성 API(관리자)" , description = "현재 존재하는 모든 사물함을 생성하는 API입니다.")
     @ResponseStatus(value = HttpStatus.OK)
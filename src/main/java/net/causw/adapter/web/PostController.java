@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.post.*;
+import net.causw.application.post.PostSearchIndexService;
 import net.causw.application.post.PostService;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.domain.exceptions.BadRequestException;
@@ -27,6 +28,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostSearchIndexService postSearchIndexService;
 
     @GetMapping(value = "/{id}", produces = "application/json")
     @ResponseStatus(value = HttpStatus.OK)
@@ -86,11 +88,38 @@ public class PostController {
         return this.postService.findAllPost(userDetails.getUser(), boardId, pageNum);
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "게시글 전체 조회 API(커서 기반)",
+            description = "전체 게시글을 작성 시각 역순으로 20개씩 불러오는 무한 스크롤용 API 입니다.\n" +
+                    "첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 값을 cursor 로 전달하여 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "4000", description = "게시판을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4002", description = "유효하지 않은 커서입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4109", description = "가입이 거절된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4108", description = "로그인된 사용자가 동아리 멤버가 아닙니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    })
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            @RequestParam("boardId") String boardId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.postService.findAllPostByCursor(userDetails.getUser(), boardId, cursor);
+    }
+
     @GetMapping("/search")
     @ResponseStatus(value = HttpStatus.OK)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     @Operation(summary = "게시글 검색 API(완료)",
-            description = "게시글을 검색하는 API로 제목의 연관검색어로 검색 가능합니다.")
+            description = "게시글을 검색하는 API로 제목과 내용에서 검색어(2글자 이상)를 찾아 관련도 순으로 반환합니다.\n" +
+                    "검색어가 2글자 미만(빈 검색어 포함)이거나 전문 검색 인덱스가 아직 생성되지 않은 경우 제목에 검색어가 포함된 게시글을 최신순으로 반환합니다.\n" +
+                    "pageNum 대신 cursor 로 페이지를 조회하며, 다음 페이지는 응답의 nextCursor 값을 cursor 로 전달하여 조회합니다.\n" +
+                    "검색 도중 검색 방식(관련도순/최신순)이 바뀌면 전달한 cursor 는 무시하고 첫 페이지를 반환합니다.")
     @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
     @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
     @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
@@ -107,13 +136,24 @@ public class PostController {
     @ApiResponse(responseCode = "4102", description = "동아리 가입 거절된 사용자입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
     @ApiResponse(responseCode = "4102", description = "동아리에서 추방된 사용자입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
     @ApiResponse(responseCode = "4004", description = "삭제된 게시판입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
-    public BoardPostsResponseDto searchPost(
+    @ApiResponse(responseCode = "4002", description = "유효하지 않은 커서입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    public BoardPostsCursorResponseDto searchPost(
             @RequestParam("boardId") String boardId,
             @RequestParam(name = "keyword", defaultValue = "") String keyword,
-            @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.postService.searchPost(userDetails.getUser(), boardId, keyword, pageNum);
+        return this.postService.searchPost(userDetails.getUser(), boardId, keyword, cursor);
+    }
+
+    @PostMapping("/search/index")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "게시글 검색 인덱스 생성 API",
+            description = "게시글 전문 검색에 사용하는 FULLTEXT 인덱스 생성을 요청합니다.\n" +
+                    "인덱스는 별도 스레드에서 한 번만 생성되며, 이미 생성되었거나 생성 중이면 false 를 반환합니다.")
+    public Boolean createPostSearchIndex() {
+        return this.postSearchIndexService.createIndex();
     }
 
     @GetMapping("/app/notice")
@@ -126,6 +166,16 @@ public class PostController {
         return this.postService.findAllAppNotice(userDetails.getUser(), pageNum);
     }
 
+    @GetMapping("/app/notice/cursor")
+    @ResponseStatus(value = HttpStatus.OK)
+    @Operation(summary = "앱 자체 공지사항 확인 API(커서 기반)", description = "다음 페이지는 응답의 nextCursor 값을 cursor 로 전달하여 조회합니다.")
+    public BoardPostsCursorResponseDto findAllAppNoticeByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.postService.findAllAppNoticeByCursor(userDetails.getUser(), cursor);
+    }
+
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
@@ -153,7 +153,7 @@ public class UserAcademicRecordApplicationController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody @Valid UpdateUserAcademicStatusRequestDto updateUserAcademicStatusRequestDto
     ) {
-        return userAcademicRecordApplicationService.updateUserAcademicStatus(userDetails.getUser(), updateUserAcademicStatusRequestDto);
+        return userAcademicRecordApplicationService.updateUserAcademicStatus(userDetails.loadUser(), updateUserAcademicStatusRequestDto);
     }
 
     /**
@@ -172,7 +172,7 @@ public class UserAcademicRecordApplicationController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody @Valid UpdateUserAcademicRecordApplicationStateRequestDto updateUserAcademicRecordApplicationStateRequestDto
     ) {
-        return userAcademicRecordApplicationService.updateUserAcademicRecordApplicationStatus(userDetails.getUser(), updateUserAcademicRecordApplicationStateRequestDto);
+        return userAcademicRecordApplicationService.updateUserAcademicRecordApplicationStatus(userDetails.loadUser(), updateUserAcademicRecordApplicationStateRequestDto);
     }
 
     /**
@@ -187,7 +187,7 @@ public class UserAcademicRecordApplicationController {
     public AcademicStatus getCurrentUserAcademicRecord(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return userAcademicRecordApplicationService.getCurrentUserAcademicRecord(userDetails.getUser());
+        return userAcademicRecordApplicationService.getCurrentUserAcademicRecord(userDetails.loadUser());
     }
 
     /**
@@ -202,7 +202,7 @@ public class UserAcademicRecordApplicationController {
     public CurrentUserAcademicRecordApplicationResponseDto getCurrentUserAcademicRecordApplication(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return userAcademicRecordApplicationService.getCurrentUserAcademicRecordApplication(userDetails.getUser());
+        return userAcademicRecordApplicationService.getCurrentUserAcademicRecordApplication(userDetails.loadUser());
     }
 
     /**
@@ -222,7 +222,7 @@ public class UserAcademicRecordApplicationController {
             @RequestPart(value = "createUserAcademicRecordApplicationRequestDto") @Valid CreateUserAcademicRecordApplicationRequestDto createUserAcademicRecordApplicationRequestDto,
             @RequestPart(value = "imageFileList", required = false) List<MultipartFile> imageFileList
     ) {
-        return userAcademicRecordApplicationService.createUserAcademicRecordApplication(userDetails.getUser(), createUserAcademicRecordApplicationRequestDto, imageFileList);
+        return userAcademicRecordApplicationService.createUserAcademicRecordApplication(userDetails.loadUser(), createUserAcademicRecordApplicationRequestDto, imageFileList);
     }
 
     /**
@@ -242,7 +242,7 @@ public class UserAcademicRecordApplicationController {
             @RequestPart(value = "createUserAcademicRecordApplicationRequestDto") @Valid CreateUserAcademicRecordApplicationRequestDto createUserAcademicRecordApplicationRequestDto,
             @RequestPart(value = "imageFileList", required = false) List<MultipartFile> imageFileList
     ) {
-        return userAcademicRecordApplicationService.updateUserAcademicRecordApplication(userDetails.getUser(), createUserAcademicRecordApplicationRequestDto, imageFileList);
+        return userAcademicRecordApplicationService.updateUserAcademicRecordApplication(userDetails.loadUser(), createUserAcademicRecordApplicationRequestDto, imageFileList);
     }
 
 }
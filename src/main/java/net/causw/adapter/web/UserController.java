@@ -324,7 +324,7 @@ public class UserController {
             @RequestPart(value = "profileImage", required = false) MultipartFile profileImage
     ) {
 
-        return this.userService.update(userDetails.getUser(), userUpdateDto, profileImage);
+        return this.userService.update(userDetails.loadUser(), userUpdateDto, profileImage);
     }
 
     /**
@@ -361,7 +361,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        return this.userService.updateUserRole(userDetails.getUser(), granteeId, userUpdateRoleRequestDto);
+        return this.userService.updateUserRole(userDetails.loadUser(), granteeId, userUpdateRoleRequestDto);
     }
 
 
@@ -380,7 +380,7 @@ public class UserController {
             @Valid @RequestBody UserUpdatePasswordRequestDto userUpdatePasswordRequestDto,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.updatePassword(userDetails.getUser(), userUpdatePasswordRequestDto);
+        return this.userService.updatePassword(userDetails.loadUser(), userUpdatePasswordRequestDto);
     }
 
     /**
@@ -406,7 +406,7 @@ public class UserController {
     })
     public UserResponseDto leave(@AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        return this.userService.leave(userDetails.getUser());
+        return this.userService.leave(userDetails.loadUser());
     }
 
     /**
@@ -428,7 +428,7 @@ public class UserController {
     })
     public UserResponseDto delete(@PathVariable("id") String id, @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        return this.userService.eraseUserData(userDetails.getUser(), id);
+        return this.userService.eraseUserData(userDetails.loadUser(), id);
     }
 
     @PutMapping(value = "{id}/drop")
@@ -441,7 +441,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody String dropReason
     ) {
-        return this.userService.dropUser(userDetails.getUser(), id, dropReason);
+        return this.userService.dropUser(userDetails.loadUser(), id, dropReason);
     }
     @GetMapping(value = "/circles")
     @ResponseStatus(value = HttpStatus.OK)
@@ -494,7 +494,7 @@ public class UserController {
             @RequestPart(value = "userAdmissionCreateRequestDto") @Valid UserAdmissionCreateRequestDto userAdmissionCreateRequestDto,
             @RequestPart(value = "userAdmissionAttachImageList") List<MultipartFile> userAdmissionAttachImageList
     ) {
-        return this.userService.createAdmission(userDetails.getUser(), userAdmissionCreateRequestDto, userAdmissionAttachImageList);
+        return this.userService.createAdmission(userDetails.loadUser(), userAdmissionCreateRequestDto, userAdmissionAttachImageList);
     }
 
     @GetMapping(value = "/admissions/self")
@@ -513,7 +513,7 @@ public class UserController {
             @RequestPart(value = "userAdmissionCreateRequestDto") @Valid UserAdmissionCreateRequestDto userAdmissionCreateRequestDto,
             @RequestPart(value = "userAdmissionAttachImageList") List<MultipartFile> userAdmissionAttachImageList
     ) {
-        return userService.updateAdmission(userDetails.getUser(), userAdmissionCreateRequestDto, userAdmissionAttachImageList);
+        return userService.updateAdmission(userDetails.loadUser(), userAdmissionCreateRequestDto, userAdmissionAttachImageList);
     }
 
     @PutMapping(value = "/admissions/{id}/accept")
@@ -535,7 +535,7 @@ public class UserController {
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.accept(userDetails.getUser(), id);
+        return this.userService.accept(userDetails.loadUser(), id);
     }
 
     /**
@@ -565,7 +565,7 @@ public class UserController {
             @RequestBody String rejectReason
     ) {
 
-        return this.userService.reject(userDetails.getUser(), id, rejectReason);
+        return this.userService.reject(userDetails.loadUser(), id, rejectReason);
     }
 
     @PutMapping(value = "/restore/{id}")
@@ -577,7 +577,7 @@ public class UserController {
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.restore(userDetails.getUser(), id);
+        return this.userService.restore(userDetails.loadUser(), id);
     }
 
     @PutMapping(value = "/token/update")
@@ -663,7 +663,7 @@ public class UserController {
     public UserResponseDto updateUserIsV2(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return userService.updateUserIsV2(userDetails.getUser());
+        return userService.updateUserIsV2(userDetails.loadUser());
     }
 
 }
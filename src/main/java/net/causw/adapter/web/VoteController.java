@@ -2,11 +2,13 @@ package net.causw.adapter.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.vote.CastVoteRequestDto;
 import net.causw.application.dto.vote.CreateVoteRequestDto;
 import net.causw.application.dto.vote.VoteResponseDto;
 import net.causw.application.vote.VoteService;
 import net.causw.config.security.userdetails.CustomUserDetails;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -73,4 +75,16 @@ public class VoteController {
         VoteResponseDto voteResponse = voteService.getVoteById(voteId, userDetails.getUser());
         return ResponseEntity.ok(voteResponse);
     }
+
+    @GetMapping("/options/{voteOptionId}/users")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUser()")
+    @Operation(summary = "투표 옵션별 투표자 조회", description = "특정 투표 옵션에 투표한 사용자 목록을 페이지 단위로 조회합니다. 익명 투표는 조회할 수 없으며, 투표가 있는 게시판에 접근할 수 있는 사용자만 조회할 수 있습니다.")
+    public ResponseEntity<Page<UserResponseDto>> getVoteUsersByVoteOptionId(
+            @PathVariable("voteOptionId") String voteOptionId, // 파라미터 이름 명시
+            @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(voteService.getVoteUsersByVoteOptionId(voteOptionId, pageNum, userDetails.getUser()));
+    }
 }
@@ -36,7 +36,11 @@ import net.causw.application.dto.util.dtoMapper.CircleDtoMapper;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.dto.util.dtoMapper.FormDtoMapper;
 import net.causw.application.excel.CircleExcelService;
+import net.causw.application.form.FormSchema;
+import net.causw.application.form.FormSchemaCache;
+import net.causw.application.userCouncilFee.UserCouncilFeeResolver;
 import net.causw.application.uuidFile.UuidFileService;
+import net.causw.config.security.JwtAuthenticationCache;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -84,6 +88,9 @@ public class CircleService {
     private final FormRepository formRepository;
     private final ReplyRepository replyRepository;
     private final QuestionRepository questionRepository;
+    private final UserCouncilFeeResolver userCouncilFeeResolver;
+    private final FormSchemaCache formSchemaCache;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Transactional(readOnly = true)
     public CircleResponseDto findById(String circleId) {
@@ -174,7 +181,7 @@ public class CircleService {
                                             board,
                                             roles,
                                             post,
-                                            postRepository.countAllCommentByPost_Id(post.getId())
+                                            post.getCommentCount() + post.getChildCommentCount()
                                     )).orElse(
                                         this.toBoardOfCircleResponseDto(
                                                     board,
@@ -458,6 +465,8 @@ public class CircleService {
 
         formRepository.saveAll(formList);
 
+        formList.forEach(form -> formSchemaCache.evict(form.getId()));
+
         return circleResponseDto;
     }
 
@@ -775,6 +784,8 @@ public class CircleService {
             );
 
             formRepository.saveAll(priorFormList);
+
+            priorFormList.forEach(form -> formSchemaCache.evict(form.getId()));
         }
 
         formRepository.save(generateForm(formCreateRequestDto, circle));
@@ -892,6 +903,7 @@ public class CircleService {
         //common이 포함되어 있을때는 common을 지우고 새로운 역할 추가
         roles.remove(Role.COMMON);
         roles.add(newRole);
+        jwtAuthenticationCache.evictUser(targetUser.getId());
         return this.userRepository.save(targetUser);
     }
 
@@ -904,6 +916,7 @@ public class CircleService {
             roles.add(Role.COMMON);
         }
         targetUser.setRoles(roles);
+        jwtAuthenticationCache.evictUser(targetUser.getId());
 
         return this.userRepository.save(targetUser);
     }
@@ -1077,58 +1090,21 @@ public class CircleService {
         this.validateToReply(writer, form);
 
         // 주관식, 객관식 질문에 따라 유효한 답변인지 검증 및 저장
+        FormSchema formSchema = formSchemaCache.get(form);
+        formSchema.validateReply(formReplyRequestDto.getQuestionReplyRequestDtoList());
+
         List<ReplyQuestion> replyQuestionList = new ArrayList<>();
 
         for (QuestionReplyRequestDto questionReplyRequestDto : formReplyRequestDto.getQuestionReplyRequestDtoList()) {
-            FormQuestion formQuestion = getQuestion(questionReplyRequestDto.getQuestionId());
-
-            // 객관식일 시
-            if (formQuestion.getQuestionType().equals(QuestionType.OBJECTIVE)) {
-                if (questionReplyRequestDto.getQuestionReply() != null) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-
-                if (!formQuestion.getIsMultiple() && questionReplyRequestDto.getSelectedOptionList().size() > 1) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-
-                // 객관식일 시: 유효한 옵션 번호 선택했는지 검사
-                List<Integer> formQuestionOptionNumberList = formQuestion.getFormQuestionOptionList()
-                        .stream()
-                        .map(FormQuestionOption::getNumber)
-                        .toList();
-
-                questionReplyRequestDto.getSelectedOptionList().forEach(optionNumber -> {
-                    if (!formQuestionOptionNumberList.contains(optionNumber)) {
-                        throw new BadRequestException(
-                                ErrorCode.INVALID_PARAMETER,
-                                MessageUtil.INVALID_REPLY_INFO
-                        );
-                    }
-                });
-            }
-            // 주관식일 시
-            else {
-                if (questionReplyRequestDto.getSelectedOptionList() != null) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-            }
+            FormSchema.QuestionSchema questionSchema = formSchema.getQuestionSchema(questionReplyRequestDto.getQuestionId());
 
+            // 검증된 질문이므로 조회 없이 참조만 연결
             ReplyQuestion replyQuestion = ReplyQuestion.of(
-                    formQuestion,
-                    formQuestion.getQuestionType().equals(QuestionType.SUBJECTIVE) ?
-                            questionReplyRequestDto.getQuestionReply()
-                            : null,
-                    formQuestion.getQuestionType().equals(QuestionType.OBJECTIVE) ?
+                    questionRepository.getReferenceById(questionSchema.getQuestionId()),
+                    questionSchema.isObjective() ?
+                            null
+                            : questionReplyRequestDto.getQuestionReply(),
+                    questionSchema.isObjective() ?
                             questionReplyRequestDto.getSelectedOptionList()
                             : null
             );
@@ -1136,30 +1112,6 @@ public class CircleService {
             replyQuestionList.add(replyQuestion);
         }
 
-        // 답변 개수 맞는지 확인
-        if (replyQuestionList.size() != form.getFormQuestionList().size()) {
-            throw new BadRequestException(
-                    ErrorCode.INVALID_PARAMETER,
-                    MessageUtil.REPLY_SIZE_INVALID
-            );
-        }
-
-        // 모든 문항에 대해 답변 정확히 하나 있는지 검사(답변 유효성 검사)
-        form.getFormQuestionList().forEach(formQuestion -> {
-            int questionReplyCount = 0;
-            for (ReplyQuestion replyQuestion : replyQuestionList) {
-                if (formQuestion.equals(replyQuestion.getFormQuestion())) {
-                    questionReplyCount++;
-                }
-            }
-            if (questionReplyCount != 1) {
-                throw new BadRequestException(
-                        ErrorCode.INVALID_PARAMETER,
-                        MessageUtil.INVALID_REPLY_INFO
-                );
-            }
-        });
-
         Reply reply = Reply.of(form, writer, replyQuestionList);
 
         replyQuestionList.forEach(replyQuestion -> replyQuestion.setReply(reply));
@@ -1238,15 +1190,6 @@ public class CircleService {
         }
     }
 
-    private FormQuestion getQuestion(String questionId){
-        return questionRepository.findById(questionId).orElseThrow(
-                () -> new BadRequestException(
-                        ErrorCode.ROW_DOES_NOT_EXIST,
-                        MessageUtil.QUESTION_NOT_FOUND
-                )
-        );
-    }
-
     // ValidatorBucket Constructor
 
     private ValidatorBucket initializeValidator(Boolean isDeleted, String staticValue) {
@@ -1267,12 +1210,17 @@ public class CircleService {
     // Private method
     @NotNull
     private List<ExportCircleMemberToExcelResponseDto> getExportCircleMemberToExcelResponseDtoListByMemberStatus(String circleId, CircleMemberStatus circleMemberStatus) {
-        return circleMemberRepository.findByCircle_IdAndStatus(circleId, circleMemberStatus)
+        List<CircleMember> circleMemberList = circleMemberRepository.findByCircle_IdAndStatus(circleId, circleMemberStatus);
+
+        Map<String, UserCouncilFee> userCouncilFeeMap = userCouncilFeeResolver.resolveByUserList(
+                circleMemberList.stream().map(CircleMember::getUser).toList()
+        );
+
+        return circleMemberList
                 .stream()
                 .map(circleMember -> {
                             User srcUser = circleMember.getUser();
-                            UserCouncilFee userCouncilFee = userCouncilFeeRepository.findByUser(srcUser)
-                                    .orElse(null);
+                            UserCouncilFee userCouncilFee = userCouncilFeeMap.get(srcUser.getId());
 
                             if (userCouncilFee == null) {
                                 return this.toExportCircleMemberToExcelResponseDtoReduced(srcUser);
@@ -84,8 +84,11 @@ public class ChildCommentService {
             );
         }
 
+        ChildComment savedChildComment = childCommentRepository.save(childComment);
+        postRepository.addChildCommentCount(post.getId(), 1L);
+
         return toChildCommentResponseDto(
-                childCommentRepository.save(childComment),
+                savedChildComment,
                 creator,
                 post.getBoard()
         );
@@ -176,6 +179,7 @@ public class ChildCommentService {
         validatorBucket.validate();
 
         childComment.delete();
+        postRepository.addChildCommentCount(post.getId(), -1L);
 
         return toChildCommentResponseDto(
                 childCommentRepository.save(childComment),
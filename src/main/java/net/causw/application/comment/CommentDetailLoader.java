@@ -0,0 +1,105 @@
+package net.causw.application.comment;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.board.Board;
+import net.causw.adapter.persistence.comment.ChildComment;
+import net.causw.adapter.persistence.comment.Comment;
+import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
+import net.causw.adapter.persistence.repository.comment.CommentCountProjection;
+import net.causw.adapter.persistence.repository.comment.LikeChildCommentRepository;
+import net.causw.adapter.persistence.repository.comment.LikeCommentRepository;
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.comment.ChildCommentResponseDto;
+import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.dto.util.dtoMapper.CommentDtoMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 페이지에 필요한 대댓글, 좋아요 수, 요청자의 좋아요 여부를 댓글 수와 무관하게
+ * 고정된 횟수의 IN / GROUP BY 쿼리로 조회하여 응답으로 변환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentDetailLoader {
+
+    private final ChildCommentRepository childCommentRepository;
+    private final LikeCommentRepository likeCommentRepository;
+    private final LikeChildCommentRepository likeChildCommentRepository;
+
+    public Page<CommentResponseDto> load(Page<Comment> comments, User user, Board board) {
+        List<String> commentIds = comments.getContent().stream()
+                .map(Comment::getId)
+                .toList();
+
+        if (commentIds.isEmpty()) {
+            return comments.map(comment -> null);
+        }
+
+        Map<String, List<ChildComment>> childCommentsByCommentId = childCommentRepository.findByParentCommentIds(commentIds).stream()
+                .collect(Collectors.groupingBy(childComment -> childComment.getParentComment().getId()));
+        List<String> childCommentIds = childCommentsByCommentId.values().stream()
+                .flatMap(List::stream)
+                .map(ChildComment::getId)
+                .toList();
+
+        Map<String, Long> numCommentLikes = toCountMap(likeCommentRepository.countByCommentIds(commentIds));
+        Set<String> likedCommentIds = new HashSet<>(
+                likeCommentRepository.findCommentIdsByUserIdAndCommentIds(user.getId(), commentIds)
+        );
+
+        Map<String, Long> numChildCommentLikes = childCommentIds.isEmpty()
+                ? Map.of()
+                : toCountMap(likeChildCommentRepository.countByChildCommentIds(childCommentIds));
+        Set<String> likedChildCommentIds = childCommentIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(likeChildCommentRepository.findChildCommentIdsByUserIdAndChildCommentIds(user.getId(), childCommentIds));
+
+        return comments.map(comment -> {
+            List<ChildComment> childCommentList = childCommentsByCommentId.getOrDefault(comment.getId(), List.of());
+
+            return CommentDtoMapper.INSTANCE.toCommentResponseDto(
+                    comment,
+                    childCommentList.stream().filter(childComment -> Boolean.FALSE.equals(childComment.getIsDeleted())).count(),
+                    numCommentLikes.getOrDefault(comment.getId(), 0L),
+                    likedCommentIds.contains(comment.getId()),
+                    StatusUtil.isCommentOwner(comment, user),
+                    childCommentList.stream()
+                            .map(childComment -> toChildCommentResponseDto(childComment, user, board, numChildCommentLikes, likedChildCommentIds))
+                            .collect(Collectors.toList()),
+                    StatusUtil.isUpdatable(comment, user),
+                    StatusUtil.isDeletable(comment, user, board)
+            );
+        });
+    }
+
+    private ChildCommentResponseDto toChildCommentResponseDto(
+            ChildComment childComment,
+            User user,
+            Board board,
+            Map<String, Long> numChildCommentLikes,
+            Collection<String> likedChildCommentIds
+    ) {
+        return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
+                childComment,
+                numChildCommentLikes.getOrDefault(childComment.getId(), 0L),
+                likedChildCommentIds.contains(childComment.getId()),
+                StatusUtil.isChildCommentOwner(childComment, user),
+                StatusUtil.isUpdatable(childComment, user),
+                StatusUtil.isDeletable(childComment, user, board)
+        );
+    }
+
+    private Map<String, Long> toCountMap(List<CommentCountProjection> commentCountList) {
+        return commentCountList.stream()
+                .collect(Collectors.toMap(CommentCountProjection::getCommentId, CommentCountProjection::getTotal));
+    }
+}
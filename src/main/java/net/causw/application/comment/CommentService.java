@@ -54,6 +54,7 @@ public class CommentService {
     private final ChildCommentRepository childCommentRepository;
     private final LikeCommentRepository likeCommentRepository;
     private final LikeChildCommentRepository likeChildCommentRepository;
+    private final CommentDetailLoader commentDetailLoader;
     private final PageableFactory pageableFactory;
     private final Validator validator;
 
@@ -67,7 +68,10 @@ public class CommentService {
                 consistOf(ConstraintValidator.of(comment, this.validator));
         validatorBucket.validate();
 
-        return toCommentResponseDto(commentRepository.save(comment), creator, post.getBoard());
+        Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getId(), 1L);
+
+        return toCommentResponseDto(savedComment, creator, post.getBoard());
     }
 
     @Transactional(readOnly = true)
@@ -81,9 +85,8 @@ public class CommentService {
                 postId,
                 pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
         );
-        comments.forEach(comment -> comment.setChildCommentList(childCommentRepository.findByParentComment_Id(comment.getId())));
 
-        return comments.map(comment -> toCommentResponseDto(comment, user, post.getBoard()));
+        return commentDetailLoader.load(comments, user, post.getBoard());
     }
 
     @Transactional
@@ -171,6 +174,7 @@ public class CommentService {
         validatorBucket.validate();
 
         comment.delete();
+        postRepository.addCommentCount(post.getId(), -1L);
 
         return toCommentResponseDto(commentRepository.save(comment), deleter, post.getBoard());
     }
@@ -5,6 +5,7 @@ import net.causw.adapter.persistence.flag.Flag;
 import net.causw.adapter.persistence.repository.flag.FlagRepository;
 import net.causw.adapter.persistence.repository.textField.TextFieldRepository;
 import net.causw.adapter.persistence.textfield.TextField;
+import net.causw.application.locker.LockerRegistrationWindowCache;
 import net.causw.domain.aop.annotation.MeasureTime;
 import org.springframework.stereotype.Service;
 
@@ -18,15 +19,18 @@ public class CommonService {
 
     private final TextFieldRepository textFieldRepository;
     private final FlagRepository flagRepository;
+    private final LockerRegistrationWindowCache lockerRegistrationWindowCache;
 
 
     @Transactional
     public String createTextField(String key, String value) {
+        evictLockerRegistrationWindow(key);
         return textFieldRepository.save(TextField.of(key, value)).getValue();
     }
 
     @Transactional
     public Optional<String> updateTextField(String key, String value) {
+        evictLockerRegistrationWindow(key);
         return textFieldRepository.findByKey(key).map(
                 flag -> {
                     flag.setValue(value);
@@ -37,11 +41,13 @@ public class CommonService {
     }
 
     public Boolean createFlag(String key, Boolean value) {
+        evictLockerRegistrationWindow(key);
 
         return flagRepository.save(Flag.of(key, value)).getValue();
     }
 
     public Boolean updateFlag(String key, Boolean value) {
+        evictLockerRegistrationWindow(key);
         return flagRepository.findByKey(key).map(
                 flag -> {
                     flag.setValue(value);
@@ -58,4 +64,10 @@ public class CommonService {
         return flagRepository.findByKey(key).map(Flag::getValue);
     }
 
+    private void evictLockerRegistrationWindow(String key) {
+        if (lockerRegistrationWindowCache.isRelatedKey(key)) {
+            lockerRegistrationWindowCache.evict();
+        }
+    }
+
 }
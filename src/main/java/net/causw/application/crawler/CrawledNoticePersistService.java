@@ -0,0 +1,56 @@
+package net.causw.application.crawler;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.crawled.CrawledNotice;
+import net.causw.adapter.persistence.crawled.LatestCrawl;
+import net.causw.adapter.persistence.repository.crawled.CrawledNoticeRepository;
+import net.causw.adapter.persistence.repository.crawled.LatestCrawlRepository;
+import net.causw.domain.model.enums.crawl.CrawlCategory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤링한 공지사항을 저장합니다.
+ * 네트워크 I/O 가 모두 끝난 뒤에 호출되어, DB 커넥션은 저장하는 동안에만 점유합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrawledNoticePersistService {
+    private final CrawledNoticeRepository crawledNoticeRepository;
+    private final LatestCrawlRepository latestCrawlRepository;
+
+    // 새 공지사항은 저장하고 이미 저장된 공지사항은 수정된 내용으로 갱신한 뒤, 목록 첫 번째 공지사항의 url 을 최신 url 로 저장
+    @Transactional
+    public void saveNotices(List<CrawledNotice> notices, String latestUrl, CrawlCategory crawlCategory, String recentNoticeLink) {
+        Map<String, CrawledNotice> savedNoticeMap = crawledNoticeRepository.findAllByLinkIn(
+                        notices.stream().map(CrawledNotice::getLink).collect(Collectors.toList())
+                )
+                .stream()
+                .collect(Collectors.toMap(CrawledNotice::getLink, Function.identity()));
+
+        List<CrawledNotice> newNotices = new ArrayList<>();
+        for (CrawledNotice notice : notices) {
+            CrawledNotice savedNotice = savedNoticeMap.get(notice.getLink());
+            if (savedNotice == null) {
+                newNotices.add(notice);
+            } else {
+                savedNotice.update(notice);
+            }
+        }
+        crawledNoticeRepository.saveAll(newNotices);
+
+        if (recentNoticeLink == null) {
+            // 처음 크롤링하는 경우엔 url save
+            latestCrawlRepository.save(LatestCrawl.of(latestUrl, crawlCategory));
+        } else if (!recentNoticeLink.equals(latestUrl)) {
+            // 최신 공지 URL 업데이트
+            latestCrawlRepository.updateLatestUrlByCategory(latestUrl, crawlCategory);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package net.causw.application.crawler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.crawled.CrawledFileLink;
 import net.causw.adapter.persistence.crawled.CrawledNotice;
 import net.causw.adapter.persistence.crawled.LatestCrawl;
 import net.causw.adapter.persistence.repository.crawled.CrawledNoticeRepository;
+import net.causw.adapter.persistence.repository.crawled.CrawledNoticeStateProjection;
 import net.causw.adapter.persistence.repository.crawled.LatestCrawlRepository;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.ErrorCode;
@@ -12,55 +17,95 @@ import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.model.enums.crawl.CrawlCategory;
 import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * 공지사항 크롤링을 목록 탐색 -> 상세 페이지 병렬 수집 -> 저장의 단계로 나누어 처리합니다.
+ * 네트워크 I/O 는 트랜잭션 밖에서 처리하고, 저장 단계만 짧은 트랜잭션으로 실행합니다.
+ * 이미 크롤링한 상세 페이지는 ETag / Last-Modified 로 조건부 요청하고, 내용 해시가 바뀐 경우에만 갱신합니다.
+ */
 @MeasureTime
 @Service
 @RequiredArgsConstructor
 public class WebCrawlerService {
-    private final CrawledNoticeRepository crawledNoticeRepository;
+    private static final String STAGE_TIMER_NAME = "crawler.stage.duration";
+    private static final Pattern DOWNLOAD_LINK_PATTERN =
+            Pattern.compile("goLocation\\('/_module/bbs/download.php','(\\d+)','(\\w+)'\\).*?>(.*?)<");
+
     private final LatestCrawlRepository latestCrawlRepository;
+    private final CrawledNoticeRepository crawledNoticeRepository;
+    private final CrawledNoticePersistService crawledNoticePersistService;
+    private final MeterRegistry meterRegistry;
+
+    // 목록 페이지 주소, 뒤에 페이지 번호가 붙음 (테스트에서는 로컬 서버 주소로 교체)
+    @Value("${crawler.cau-cse.base-url:" + StaticValue.CAU_CSE_BASE_URL + "}")
+    private String cauCseBaseUrl;
 
 //    @Scheduled(fixedRate = 5000) // 5초마다 실행 (테스트용)
     @Scheduled(cron = "0 0 * * * *") // 매 시각 0분 0초에 실행 (배포용)
-    @Transactional
     public void crawlAndSaveCAUSWNoticeSite()  {
-        int pageNum = 1;
-
         // 최신 URL 가져오기
         String recentNoticeLink = latestCrawlRepository.findByCrawlCategory(CrawlCategory.CAU_SW_NOTICE)
                 .map(LatestCrawl::getLatestUrl)
                 .orElse(null);
 
-        boolean isNew = true;
-        while (isNew) {
-            String url = StaticValue.CAU_CSE_BASE_URL + pageNum;
-            Document doc;
-            try {
-                doc = Jsoup.connect(url).get();
-            } catch (IOException e) {
-                throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
-            }
+        List<NoticeLink> noticeLinks = stageTimer("discover")
+                .record(this::discoverNoticeLinks);
+        if (noticeLinks.isEmpty()) {
+            return;
+        }
 
-            Elements rows = doc.select("table.table-basic tbody tr");
+        List<CrawledNotice> notices = stageTimer("fetch")
+                .record(() -> fetchNotices(noticeLinks));
 
-            if (rows.isEmpty()) {
-                break; // 더 이상 페이지가 없으면 종료
-            }
+        String latestUrl = noticeLinks.get(0).getLink();
+        if (notices.isEmpty() && latestUrl.equals(recentNoticeLink)) {
+            return;
+        }
 
-            List<CrawledNotice> notices = new ArrayList<>();
+        stageTimer("persist")
+                .record(() -> crawledNoticePersistService.saveNotices(notices, latestUrl, CrawlCategory.CAU_SW_NOTICE, recentNoticeLink));
+    }
+
+    /*
+     * 목록 페이지를 순서대로 탐색하여 새 공지사항과 다시 확인할 기존 공지사항의 링크를 최신순으로 수집합니다.
+     * 최신 url 하나와 비교하는 대신 페이지의 마지막(가장 오래된) 공지사항이 이미 크롤링된 경우 탐색을 종료하므로,
+     * 최신 공지사항이 삭제되거나 순서가 바뀌어도 전체 페이지를 다시 탐색하지 않습니다.
+     */
+    private List<NoticeLink> discoverNoticeLinks() {
+        List<NoticeLink> noticeLinks = new ArrayList<>();
+        Set<String> discoveredLinks = new HashSet<>();  // 상단 고정 공지처럼 여러 페이지에 반복되는 링크는 한 번만 수집
+        int pageNum = 1;
+
+        while (true) {
+            Elements rows = connect(cauCseBaseUrl + pageNum).select("table.table-basic tbody tr");
+
+            List<NoticeLink> pageNoticeLinks = new ArrayList<>();
             for (Element row : rows) {
                 String noticeType = row.select("td span.tag").text();
                 Element titleElement = row.select("td.aleft a").first();
@@ -68,88 +113,179 @@ public class WebCrawlerService {
                     continue;
                 }
 
-                String absoluteLink = titleElement.absUrl("href");
+                pageNoticeLinks.add(new NoticeLink(noticeType, titleElement.absUrl("href"), null));
+            }
 
-                if (absoluteLink.equals(recentNoticeLink)) {   // 최신 url과 비교하여 동일한 경우 for문 탈출
-                    isNew = false;
-                    break;
-                }
-                // 상세 페이지로 이동하여 내용 크롤링
-                Document detailDoc;
-                try {
-                    detailDoc = Jsoup.connect(absoluteLink).get();
-                } catch (IOException e) {
-                    throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
-                }
-                String title = detailDoc.select("div.header > h3").text();  // 제목 추출
-                String announceDate = detailDoc.select("div.header > div > span").get(1).text();    // 작성일 추출
-                String author = detailDoc.select("div.header > div > span").get(3).text();  // 작성자 추출
-                String content = detailDoc.select("div.fr-view").outerHtml();   // 본문 내용 추출
-                String imageLink = detailDoc.select("div.fr-view > p > img").attr("abs:src");  // 절대경로로 이미지 추출 => 없는 경우 빈 문자열 삽입\
-
-
-                // 첨부파일 다운로드 경로 추출
-                Elements downloadLinks = detailDoc.select("div.files span");
-                List<CrawledFileLink> crawledFileLinks = new ArrayList<>();
-
-                for (Element link : downloadLinks) {
-                    // 정규식 사용
-                    String onclickAttr = link.attr("onclick");
-                    Pattern pattern = Pattern.compile("goLocation\\('/_module/bbs/download.php','(\\d+)','(\\w+)'\\).*?>(.*?)<");
-                    Matcher matcher = pattern.matcher(link.outerHtml());
-
-                    while (matcher.find()) {
-                        String uid = matcher.group(1); // uid 추출
-                        String code = matcher.group(2); // code 추출
-                        String fileName = matcher.group(3).trim(); // 파일명 추출
-                        // 파일 다운로드 경로 생성
-                        String fileUrl = String.format("https://cse.cau.ac.kr/_module/bbs/download.php?uid=%s&code=%s", uid, code);
-                        // CrawledFileLink 객체 생성
-                        crawledFileLinks.add(CrawledFileLink.of(fileName, fileUrl));
-                    }
-                }
+            if (pageNoticeLinks.isEmpty()) {
+                return noticeLinks; // 더 이상 공지가 없으면 종료
+            }
 
-                if (downloadLinks.isEmpty()) {
-                    // 첨부파일이 없는 경우
-                    crawledFileLinks = null;
-                }
+            Map<String, CrawledNoticeStateProjection> crawledStateMap = crawledNoticeRepository.findStateByLinkIn(
+                            pageNoticeLinks.stream().map(NoticeLink::getLink).collect(Collectors.toSet())
+                    )
+                    .stream()
+                    .collect(Collectors.toMap(CrawledNoticeStateProjection::getLink, Function.identity()));
 
-                // CrawledNotice 객체 생성
-                CrawledNotice notice = CrawledNotice.of(
-                        noticeType,
-                        title,
-                        content,
-                        absoluteLink,
-                        author,
-                        announceDate,
-                        imageLink,
-                        crawledFileLinks
-                );
-                notices.add(notice);
+            pageNoticeLinks.stream()
+                    .filter(noticeLink -> discoveredLinks.add(noticeLink.getLink()))
+                    .forEach(noticeLink -> noticeLinks.add(
+                            new NoticeLink(noticeLink.getNoticeType(), noticeLink.getLink(), crawledStateMap.get(noticeLink.getLink()))
+                    ));
 
-            }
-            // DB save
-            if (!notices.isEmpty()) {
-                // 새로운 공지사항이 하나라도 있으면 저장
-                crawledNoticeRepository.saveAll(notices);
-
-                // 첫 페이지의 첫 번째 공지사항을 저장
-                if (pageNum == 1) {
-                    if (recentNoticeLink == null) {
-                        // 처음 크롤링하는 경우엔 url save
-                        latestCrawlRepository.save(LatestCrawl.of(notices.get(0).getLink(), CrawlCategory.CAU_SW_NOTICE));
-                    } else {
-                        // 최신 공지 URL 업데이트
-                        latestCrawlRepository.updateLatestUrlByCategory(notices.get(0).getLink(), CrawlCategory.CAU_SW_NOTICE);
-                    }
-                }
-            } else {
-                // 공지가 하나도 없으면 종료
-                isNew = false;
+            if (crawledStateMap.containsKey(pageNoticeLinks.get(pageNoticeLinks.size() - 1).getLink())) {
+                return noticeLinks; // 이후 페이지는 모두 크롤링된 공지사항이므로 종료
             }
             // 다음 페이지로 이동
             pageNum++;
         }
     }
-}
 
+    // 상세 페이지는 서로 독립적이므로 제한된 스레드 풀에서 병렬로 요청하고, 새로 저장하거나 갱신할 공지사항만 탐색 순서대로 반환
+    private List<CrawledNotice> fetchNotices(List<NoticeLink> noticeLinks) {
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(StaticValue.CRAWL_DETAIL_FETCH_CONCURRENCY, noticeLinks.size())
+        );
+        try {
+            List<Future<CrawledNotice>> futures = new ArrayList<>();
+            for (NoticeLink noticeLink : noticeLinks) {
+                futures.add(executorService.submit(() -> fetchNotice(noticeLink)));
+            }
+
+            List<CrawledNotice> notices = new ArrayList<>();
+            for (Future<CrawledNotice> future : futures) {
+                CrawledNotice notice = future.get();
+                if (notice != null) {
+                    notices.add(notice);
+                }
+            }
+            return notices;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InternalServerException internalServerException) {
+                throw internalServerException;
+            }
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    // 상세 페이지로 이동하여 내용 크롤링, 변경되지 않은 공지사항은 null 반환
+    private CrawledNotice fetchNotice(NoticeLink noticeLink) {
+        CrawledNoticeStateProjection crawledState = noticeLink.getCrawledState();
+        Connection.Response response = conditionalGet(noticeLink.getLink(), crawledState);
+        if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+            return null;
+        }
+
+        Document detailDoc;
+        try {
+            detailDoc = response.parse();
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        }
+
+        String title = detailDoc.select("div.header > h3").text();  // 제목 추출
+        String announceDate = detailDoc.select("div.header > div > span").get(1).text();    // 작성일 추출
+        String author = detailDoc.select("div.header > div > span").get(3).text();  // 작성자 추출
+        String content = detailDoc.select("div.fr-view").outerHtml();   // 본문 내용 추출
+        String imageLink = detailDoc.select("div.fr-view > p > img").attr("abs:src");  // 절대경로로 이미지 추출 => 없는 경우 빈 문자열 삽입
+
+        // 첨부파일 다운로드 경로 추출
+        Elements downloadLinks = detailDoc.select("div.files span");
+        List<CrawledFileLink> crawledFileLinks = new ArrayList<>();
+
+        for (Element link : downloadLinks) {
+            Matcher matcher = DOWNLOAD_LINK_PATTERN.matcher(link.outerHtml());
+
+            while (matcher.find()) {
+                String uid = matcher.group(1); // uid 추출
+                String code = matcher.group(2); // code 추출
+                String fileName = matcher.group(3).trim(); // 파일명 추출
+                // 파일 다운로드 경로 생성
+                String fileUrl = String.format("https://cse.cau.ac.kr/_module/bbs/download.php?uid=%s&code=%s", uid, code);
+                // CrawledFileLink 객체 생성
+                crawledFileLinks.add(CrawledFileLink.of(fileName, fileUrl));
+            }
+        }
+
+        if (downloadLinks.isEmpty()) {
+            // 첨부파일이 없는 경우
+            crawledFileLinks = null;
+        }
+
+        // CrawledNotice 객체 생성
+        CrawledNotice notice = CrawledNotice.of(
+                noticeLink.getNoticeType(),
+                title,
+                content,
+                noticeLink.getLink(),
+                author,
+                announceDate,
+                imageLink,
+                crawledFileLinks,
+                response.header(HttpHeaders.ETAG),
+                response.header(HttpHeaders.LAST_MODIFIED)
+        );
+
+        // 내용과 조건부 요청 정보가 모두 같으면 갱신하지 않음
+        if (crawledState != null
+                && notice.getContentHash().equals(crawledState.getContentHash())
+                && Objects.equals(notice.getEtag(), crawledState.getEtag())
+                && Objects.equals(notice.getLastModified(), crawledState.getLastModified())) {
+            return null;
+        }
+        return notice;
+    }
+
+    // 이전 응답의 ETag / Last-Modified 를 보내 변경되지 않은 페이지는 본문 없이 304 로 받음
+    private Connection.Response conditionalGet(String url, CrawledNoticeStateProjection crawledState) {
+        Connection connection = Jsoup.connect(url)
+                .timeout(StaticValue.CRAWL_CONNECT_TIMEOUT)
+                .ignoreHttpErrors(true);
+        if (crawledState != null && crawledState.getEtag() != null) {
+            connection.header(HttpHeaders.IF_NONE_MATCH, crawledState.getEtag());
+        }
+        if (crawledState != null && crawledState.getLastModified() != null) {
+            connection.header(HttpHeaders.IF_MODIFIED_SINCE, crawledState.getLastModified());
+        }
+
+        Connection.Response response;
+        try {
+            response = connection.execute();
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        }
+        if (response.statusCode() != HttpStatus.OK.value() && response.statusCode() != HttpStatus.NOT_MODIFIED.value()) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        }
+        return response;
+    }
+
+    private Document connect(String url) {
+        try {
+            return Jsoup.connect(url)
+                    .timeout(StaticValue.CRAWL_CONNECT_TIMEOUT)
+                    .get();
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE);
+        }
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_TIMER_NAME)
+                .tag("category", CrawlCategory.CAU_SW_NOTICE.name())
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class NoticeLink {
+        private final String noticeType;
+        private final String link;
+        private final CrawledNoticeStateProjection crawledState;  // 새 공지사항이면 null
+    }
+}
@@ -0,0 +1,25 @@
+package net.causw.application.dto.form.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.causw.domain.model.enums.form.FormExportStatus;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormExportJobResponseDto {
+
+    @Schema(description = "내보내기 작업 id", example = "uuid 형식의 String 값입니다.")
+    private String jobId;
+
+    @Schema(description = "내보내기 작업 상태", example = "COMPLETED")
+    private FormExportStatus status;
+
+    @Schema(description = "결과 파일 다운로드 URL (작업 완료 시에만 존재하며, 일정 시간 후 만료됩니다)", example = "https://...")
+    private String downloadUrl;
+
+}
@@ -24,7 +24,7 @@ public class QuestionSummaryResponseDto {
     @Schema(description = "질문 번호", example = "1")
     private String questionText;
 
-    @Schema(description = "질문 답변 내용 List(주관식 질문일 경우)", example = "[답변1, 답변2, ...]")
+    @Schema(description = "질문 답변 내용 List(주관식 질문일 경우, 첫 페이지만 포함되며 나머지는 주관식 답변 페이징 조회로 조회)", example = "[답변1, 답변2, ...]")
     private List<String> questionAnswerList;
 
     @Schema(description = "질문 답변 정보 List(객관식 질문일 경우)", example = "[OptionSummaryResponseDto, OptionSummaryResponseDto, ...]")
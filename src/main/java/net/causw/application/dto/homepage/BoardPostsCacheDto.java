@@ -0,0 +1,19 @@
+package net.causw.application.dto.homepage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.causw.application.dto.post.PostsResponseDto;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class BoardPostsCacheDto {
+    private String boardId;
+    private List<PostsResponseDto> posts;
+    private Long totalElements;
+}
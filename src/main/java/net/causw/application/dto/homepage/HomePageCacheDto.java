@@ -0,0 +1,17 @@
+package net.causw.application.dto.homepage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Redis 에 저장되는 홈 화면 스냅샷 (사용자 권한에 따라 달라지는 값은 포함하지 않습니다)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class HomePageCacheDto {
+    private List<BoardPostsCacheDto> boardPostsList;
+}
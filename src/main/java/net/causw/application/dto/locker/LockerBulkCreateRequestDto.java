@@ -0,0 +1,22 @@
+package net.causw.application.dto.locker;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LockerBulkCreateRequestDto {
+
+    @Valid
+    @NotEmpty(message = "생성할 사물함 번호 범위를 입력해 주세요.")
+    private List<LockerRangeRequestDto> lockerRangeList;
+
+}
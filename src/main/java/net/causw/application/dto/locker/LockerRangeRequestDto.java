@@ -0,0 +1,28 @@
+package net.causw.application.dto.locker;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LockerRangeRequestDto {
+
+    @NotBlank(message = "사물함 위치 id를 입력해 주세요. locker id와 다릅니다.")
+    private String lockerLocationId;
+
+    @NotNull(message = "시작 사물함 번호를 입력해 주세요.")
+    @Positive(message = "사물함 번호는 1 이상이어야 합니다.")
+    private Long startLockerNumber;
+
+    @NotNull(message = "마지막 사물함 번호를 입력해 주세요.")
+    @Positive(message = "사물함 번호는 1 이상이어야 합니다.")
+    private Long endLockerNumber;
+
+}
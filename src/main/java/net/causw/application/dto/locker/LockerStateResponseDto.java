@@ -0,0 +1,40 @@
+package net.causw.application.dto.locker;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.causw.adapter.persistence.locker.Locker;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+// 사물함 상태 변경 SSE 이벤트로 전달되는 사물함 한 개의 변경 후 상태
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockerStateResponseDto {
+    private String id;
+    private String locationId;
+    private String lockerNumber;
+    private Boolean isActive;
+    private Boolean isInUse;
+    private Boolean isDeleted;
+    private String expireAt;
+
+    public static LockerStateResponseDto of(Locker locker, Boolean isDeleted) {
+        return LockerStateResponseDto.builder()
+                .id(locker.getId())
+                .locationId(locker.getLocation().getId())
+                .lockerNumber(String.valueOf(locker.getLockerNumber()))
+                .isActive(locker.getIsActive())
+                .isInUse(locker.getUser().isPresent())
+                .isDeleted(isDeleted)
+                .expireAt(Optional.ofNullable(locker.getExpireDate()).map(
+                        expire -> expire.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"))).orElse(null))
+                .build();
+    }
+}
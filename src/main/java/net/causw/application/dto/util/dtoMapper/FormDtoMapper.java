@@ -40,12 +40,10 @@ public interface FormDtoMapper {
 
     @Named("getSelectedOptionTextList")
     default List<String> getSelectedOptionTextList(ReplyQuestion replyQuestion) {
-        List<Integer> selectedOptionList = replyQuestion.getSelectedOptionList();
-
         List<FormQuestionOption> formQuestionOptionList = replyQuestion.getFormQuestion().getFormQuestionOptionList();
 
         return formQuestionOptionList.stream()
-            .filter(formQuestionOption -> selectedOptionList.contains(formQuestionOption.getNumber()))
+            .filter(formQuestionOption -> replyQuestion.isOptionSelected(formQuestionOption.getNumber()))
             .map(formQuestionOption -> {
                 return formQuestionOption.getNumber() + ". " + formQuestionOption.getOptionText();
             })
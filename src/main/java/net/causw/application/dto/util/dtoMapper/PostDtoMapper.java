@@ -18,6 +18,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.List;
 import java.util.Set;
 
 // Custom Annotation을 사용하여 중복되는 @Mapping을 줄일 수 있습니다.
@@ -60,6 +61,7 @@ public interface PostDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "isQuestion", source = "post.isQuestion")
     @Mapping(target = "numLike", source = "numPostLike")
     @Mapping(target = "numFavorite", source = "numPostFavorite")
+    @Mapping(target = "viewCount", source = "post.viewCount")
     @Mapping(target = "isPostLike", source = "isPostLike")
     @Mapping(target = "isPostFavorite", source = "isPostFavorite")
     @Mapping(target = "isOwner", source = "isOwner")
@@ -95,6 +97,10 @@ public interface PostDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "boardName", source = "board.name")
     BoardPostsResponseDto toBoardPostsResponseDto(Board board, Set<Role> userRole, Boolean writable, Boolean isFavorite, Page<PostsResponseDto> post);
 
+    @Mapping(target = "boardId", source = "board.id")
+    @Mapping(target = "boardName", source = "board.name")
+    BoardPostsCursorResponseDto toBoardPostsCursorResponseDto(Board board, Boolean writable, Boolean isFavorite, List<PostsResponseDto> post, String nextCursor, Boolean hasNext);
+
     @Mapping(target="id", source = "post.id")
     PostCreateResponseDto toPostCreateResponseDto(Post post);
 }
@@ -1,6 +1,5 @@
 package net.causw.application.dto.util.dtoMapper;
 
-import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.vote.VoteResponseDto;
 import net.causw.application.dto.vote.VoteOptionResponseDto;
 import net.causw.adapter.persistence.vote.Vote;
@@ -31,6 +30,5 @@ public interface VoteDtoMapper {
     @Mapping(target = "id", source = "voteOption.id")
     @Mapping(target = "optionName", source = "voteOption.optionName")
     @Mapping(target = "voteCount" , source = "voteCount")
-    @Mapping(target = "voteUsers" , source = "voteUsers")
-    VoteOptionResponseDto toVoteOptionResponseDto(VoteOption voteOption, Integer voteCount , List<UserResponseDto> voteUsers);
+    VoteOptionResponseDto toVoteOptionResponseDto(VoteOption voteOption, Integer voteCount);
 }
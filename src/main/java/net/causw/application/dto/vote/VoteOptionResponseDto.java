@@ -3,9 +3,6 @@ package net.causw.application.dto.vote;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import net.causw.application.dto.user.UserResponseDto;
-
-import java.util.List;
 
 @Getter
 @Builder
@@ -14,5 +11,4 @@ public class VoteOptionResponseDto {
     private String id;
     private String optionName;
     private Integer voteCount;
-    private List<UserResponseDto> voteUsers;
 }
@@ -0,0 +1,55 @@
+package net.causw.application.excel;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 엔티티를 id 순서의 청크 단위로 조회하는 Stream 을 만듭니다.
+ * 다음 청크를 조회하기 전에 영속성 컨텍스트를 비우므로, 메모리에는 항상 한 청크만 유지됩니다.
+ * 스트리밍 엑셀 내보내기처럼 전체 데이터를 한 번에 올리지 않아야 하는 곳에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkedEntityStreamFactory {
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param chunkLoader 마지막으로 조회한 id 다음부터 id 오름차순으로 한 청크를 조회하는 함수 (첫 청크는 빈 문자열)
+     * @param idExtractor 엔티티의 id 를 꺼내는 함수
+     */
+    public <E> Stream<E> stream(Function<String, List<E>> chunkLoader, Function<E, String> idExtractor) {
+        return chunkStream(chunkLoader, idExtractor).flatMap(List::stream);
+    }
+
+    /**
+     * 청크 단위로 변환이 필요한 경우(연관 데이터를 청크마다 한 번에 조회하는 경우 등) 사용합니다.
+     * chunkMapper 는 영속성 컨텍스트를 비우기 전에 청크 전체에 대해 실행됩니다.
+     *
+     * @param chunkMapper 조회한 청크를 결과 목록으로 변환하는 함수
+     */
+    public <E, R> Stream<R> stream(
+            Function<String, List<E>> chunkLoader,
+            Function<E, String> idExtractor,
+            Function<List<E>, List<R>> chunkMapper
+    ) {
+        return chunkStream(chunkLoader, idExtractor).flatMap(chunk -> chunkMapper.apply(chunk).stream());
+    }
+
+    private <E> Stream<List<E>> chunkStream(Function<String, List<E>> chunkLoader, Function<E, String> idExtractor) {
+        return Stream.iterate(
+                chunkLoader.apply(""),
+                chunk -> !chunk.isEmpty(),
+                chunk -> {
+                    String lastId = idExtractor.apply(chunk.get(chunk.size() - 1));
+                    entityManager.clear();
+                    return chunkLoader.apply(lastId);
+                }
+        );
+    }
+}
@@ -32,9 +32,7 @@ public abstract class ExcelAbstractService<T> implements ExcelService<T> {
                 createSheet(workbook, sheetName, headerStringList, sheetNameDataMap.get(sheetName));
             }
 
-            String encodedFileName = URLEncoder.encode( LocalDateTime.now() + "_" + fileName + ".xlsx", StandardCharsets.UTF_8);
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-            response.setHeader("Content-Disposition", "attachment; filename=" + encodedFileName);
+            setExcelResponseHeader(response, fileName);
 
             try (ServletOutputStream outputStream = response.getOutputStream()) {
                 workbook.write(outputStream);
@@ -44,6 +42,12 @@ public abstract class ExcelAbstractService<T> implements ExcelService<T> {
         }
     }
 
+    protected void setExcelResponseHeader(HttpServletResponse response, String fileName) {
+        String encodedFileName = URLEncoder.encode( LocalDateTime.now() + "_" + fileName + ".xlsx", StandardCharsets.UTF_8);
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=" + encodedFileName);
+    }
+
     @Override
     public void createSheet(Workbook workbook, String sheetName, List<String> headerStringList, List<T> dataList) {
         Sheet sheet = workbook.createSheet(sheetName);
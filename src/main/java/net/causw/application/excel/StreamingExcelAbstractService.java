@@ -0,0 +1,86 @@
+package net.causw.application.excel;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * SXSSFWorkbook 으로 엑셀을 생성합니다.
+ * 메모리에는 EXCEL_ROW_ACCESS_WINDOW_SIZE 만큼의 행만 유지하고 나머지는 임시 파일로 내보내며,
+ * 시트 데이터를 Stream 으로 받아 한 행씩 작성하므로 전체 데이터를 List 로 만들지 않아도 됩니다.
+ */
+public abstract class StreamingExcelAbstractService<T> extends ExcelAbstractService<T> implements StreamingExcelService<T> {
+
+    @Override
+    public void generateStreamingExcel(
+            HttpServletResponse response,
+            String fileName,
+            List<String> headerStringList,
+            LinkedHashMap<String, Supplier<Stream<T>>> sheetNameDataStreamMap
+    ) {
+        setExcelResponseHeader(response, fileName);
+
+        try (ServletOutputStream outputStream = response.getOutputStream()) {
+            writeStreamingExcel(outputStream, headerStringList, sheetNameDataStreamMap);
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_GENERATE_EXCEL_FILE);
+        }
+    }
+
+    // HTTP 응답 외에 파일 등 임의의 OutputStream 에 작성, outputStream 은 호출한 쪽에서 닫음
+    @Override
+    public void writeStreamingExcel(
+            OutputStream outputStream,
+            List<String> headerStringList,
+            LinkedHashMap<String, Supplier<Stream<T>>> sheetNameDataStreamMap
+    ) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(StaticValue.EXCEL_ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+
+        try (workbook) {
+            for (Map.Entry<String, Supplier<Stream<T>>> sheetNameDataStream : sheetNameDataStreamMap.entrySet()) {
+                Sheet sheet = workbook.createSheet(sheetNameDataStream.getKey());
+                createHeaderRow(sheet, headerStringList);
+
+                // 시트를 작성할 때 데이터 조회를 시작
+                try (Stream<T> dataStream = sheetNameDataStream.getValue().get()) {
+                    int rowNum = 1;
+                    Iterator<T> dataIterator = dataStream.iterator();
+                    while (dataIterator.hasNext()) {
+                        createDataRow(sheet.createRow(rowNum++), dataIterator.next());
+                    }
+                }
+            }
+
+            workbook.write(outputStream);
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FAIL_TO_GENERATE_EXCEL_FILE);
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+        }
+    }
+
+    @Override
+    public void createDataRows(Sheet sheet, List<T> dataList) {
+        int rowNum = 1;
+        for (T data : dataList) {
+            createDataRow(sheet.createRow(rowNum++), data);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package net.causw.application.excel;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public interface StreamingExcelService<T> extends ExcelService<T> {
+
+    void generateStreamingExcel(HttpServletResponse response,
+                                String fileName,
+                                List<String> headerStringList,
+                                LinkedHashMap<String, Supplier<Stream<T>>> sheetNameDataStreamMap
+    );
+
+    void writeStreamingExcel(OutputStream outputStream,
+                             List<String> headerStringList,
+                             LinkedHashMap<String, Supplier<Stream<T>>> sheetNameDataStreamMap
+    );
+
+    void createDataRow(Row row, T data);
+
+}
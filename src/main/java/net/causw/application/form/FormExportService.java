@@ -0,0 +1,190 @@
+package net.causw.application.form;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.form.response.FormExportJobResponseDto;
+import net.causw.application.storage.StorageManager;
+import net.causw.domain.aop.annotation.MeasureTime;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.model.enums.form.FormExportStatus;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 신청서 결과 엑셀을 요청 스레드가 아닌 별도의 작업 스레드에서 생성합니다.
+ * 작업 상태는 Redis 에 저장하므로 요청을 받은 서버와 상태를 조회하는 서버가 달라도 됩니다.
+ * 결과 파일은 개인정보를 포함하므로 S3 에 비공개로 업로드하고, 완료된 작업 조회 시 만료 시간이 있는 다운로드 URL 을 발급합니다.
+ */
+@Slf4j
+@MeasureTime
+@Service
+public class FormExportService extends StorageManager {
+
+    private static final String JOB_FORM_ID = "formId";
+    private static final String JOB_REQUESTER_ID = "requesterId";
+    private static final String JOB_FILE_NAME = "fileName";
+    private static final String JOB_STATUS = "status";
+    private static final String JOB_FILE_KEY = "fileKey";
+    private static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final FormService formService;
+    private final RedisUtils redisUtils;
+    private final ThreadPoolTaskExecutor formExportTaskExecutor;
+
+    public FormExportService(AmazonS3Client amazonS3Client, FormService formService, RedisUtils redisUtils) {
+        super(amazonS3Client);
+        this.formService = formService;
+        this.redisUtils = redisUtils;
+
+        // 대용량 내보내기가 몰려도 서버 자원을 모두 쓰지 않도록 스레드 수와 대기열 크기를 제한
+        this.formExportTaskExecutor = new ThreadPoolTaskExecutor();
+        this.formExportTaskExecutor.setCorePoolSize(StaticValue.FORM_EXPORT_THREAD_POOL_SIZE);
+        this.formExportTaskExecutor.setMaxPoolSize(StaticValue.FORM_EXPORT_THREAD_POOL_SIZE);
+        this.formExportTaskExecutor.setQueueCapacity(StaticValue.FORM_EXPORT_QUEUE_CAPACITY);
+        this.formExportTaskExecutor.setThreadNamePrefix("form-export-");
+        this.formExportTaskExecutor.initialize();
+    }
+
+    public FormExportJobResponseDto requestExport(String formId, User user) {
+        String fileName = formService.getFormResultExportFileName(formId, user);
+
+        String jobId = UUID.randomUUID().toString();
+        redisUtils.setFormExportJobData(
+                jobId,
+                Map.of(
+                        JOB_FORM_ID, formId,
+                        JOB_REQUESTER_ID, user.getId(),
+                        JOB_FILE_NAME, fileName,
+                        JOB_STATUS, FormExportStatus.PENDING.name()
+                ),
+                StaticValue.FORM_EXPORT_JOB_EXPIRED_TIME
+        );
+
+        try {
+            formExportTaskExecutor.execute(() -> runExport(jobId, formId));
+        } catch (TaskRejectedException e) {
+            redisUtils.deleteFormExportJobData(jobId);
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FORM_EXPORT_JOB_QUEUE_FULL);
+        }
+
+        return toFormExportJobResponseDto(jobId, FormExportStatus.PENDING, null);
+    }
+
+    public FormExportJobResponseDto getExport(String formId, String jobId, User user) {
+        Map<String, String> jobData = redisUtils.getFormExportJobData(jobId);
+
+        // 다른 신청서의 작업이거나 다른 사용자가 요청한 작업은 존재하지 않는 작업과 동일하게 처리
+        if (jobData.isEmpty()
+                || !formId.equals(jobData.get(JOB_FORM_ID))
+                || !user.getId().equals(jobData.get(JOB_REQUESTER_ID))) {
+            throw new BadRequestException(
+                    ErrorCode.ROW_DOES_NOT_EXIST,
+                    MessageUtil.FORM_EXPORT_JOB_NOT_FOUND
+            );
+        }
+
+        FormExportStatus status = FormExportStatus.valueOf(jobData.get(JOB_STATUS));
+        if (!status.equals(FormExportStatus.COMPLETED)) {
+            return toFormExportJobResponseDto(jobId, status, null);
+        }
+
+        String downloadUrl = super.generatePresignedUrl(
+                jobData.get(JOB_FILE_KEY),
+                jobData.get(JOB_FILE_NAME) + ".xlsx",
+                StaticValue.FORM_EXPORT_DOWNLOAD_URL_EXPIRED_TIME
+        );
+
+        return toFormExportJobResponseDto(jobId, status, downloadUrl);
+    }
+
+    // 만료된 작업의 결과 파일 삭제
+    @Scheduled(fixedDelayString = "#{T(net.causw.domain.model.util.StaticValue).FORM_EXPORT_FILE_CLEAN_INTERVAL}")
+    public void cleanExpiredExportFiles() {
+        List<String> expiredFileKeys = super.findFileKeysModifiedBefore(
+                StaticValue.FORM_EXPORT_DIRECTORY + "/",
+                new Date(System.currentTimeMillis() - StaticValue.FORM_EXPORT_JOB_EXPIRED_TIME)
+        );
+        if (expiredFileKeys.isEmpty()) {
+            return;
+        }
+
+        List<String> failedFileKeys = super.deleteFiles(expiredFileKeys);
+        if (!failedFileKeys.isEmpty()) {
+            log.warn("Failed to delete {} expired form export files", failedFileKeys.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        formExportTaskExecutor.shutdown();
+    }
+
+    // private methods
+    private void runExport(String jobId, String formId) {
+        updateJobData(jobId, Map.of(JOB_STATUS, FormExportStatus.RUNNING.name()));
+
+        Path tempFile = null;
+        try {
+            // 엑셀은 메모리가 아닌 임시 파일에 작성한 후 업로드
+            tempFile = Files.createTempFile("form-export-" + jobId, ".xlsx");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                formService.writeFormResultExcel(formId, outputStream);
+            }
+
+            String fileKey = StaticValue.FORM_EXPORT_DIRECTORY + "/" + formId + "/" + jobId + ".xlsx";
+            super.uploadPrivateFile(tempFile.toFile(), fileKey, EXCEL_CONTENT_TYPE);
+
+            updateJobData(jobId, Map.of(
+                    JOB_STATUS, FormExportStatus.COMPLETED.name(),
+                    JOB_FILE_KEY, fileKey
+            ));
+        } catch (Exception e) {
+            log.error("Failed to export form result. formId: {}, jobId: {}", formId, jobId, e);
+            updateJobData(jobId, Map.of(JOB_STATUS, FormExportStatus.FAILED.name()));
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private void updateJobData(String jobId, Map<String, String> jobData) {
+        redisUtils.setFormExportJobData(jobId, jobData, StaticValue.FORM_EXPORT_JOB_EXPIRED_TIME);
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file: {}", tempFile, e);
+        }
+    }
+
+    private FormExportJobResponseDto toFormExportJobResponseDto(String jobId, FormExportStatus status, String downloadUrl) {
+        return FormExportJobResponseDto.builder()
+                .jobId(jobId)
+                .status(status)
+                .downloadUrl(downloadUrl)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package net.causw.application.form;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.form.Form;
+import net.causw.adapter.persistence.form.FormQuestion;
+import net.causw.adapter.persistence.form.FormQuestionOption;
+import net.causw.adapter.persistence.form.ReplySelectedOptionManager;
+import net.causw.application.dto.form.request.QuestionReplyRequestDto;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.model.enums.form.QuestionType;
+import net.causw.domain.model.util.MessageUtil;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 답변 검증에 필요한 신청서 구조(질문 id 별 유형, 복수 선택 여부, 선택 가능한 선지)만 담은 불변 객체입니다.
+ * 선택 가능한 선지는 답변 저장 방식과 같이 1 ~ 64 번은 비트마스크로, 그 외 번호는 Set 으로 보관합니다.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FormSchema {
+
+    private final Map<String, QuestionSchema> questionSchemaMap;
+
+    public static FormSchema from(Form form) {
+        Map<String, QuestionSchema> questionSchemaMap = new HashMap<>();
+        for (FormQuestion formQuestion : form.getFormQuestionList()) {
+            questionSchemaMap.put(formQuestion.getId(), QuestionSchema.from(formQuestion));
+        }
+        return new FormSchema(Map.copyOf(questionSchemaMap));
+    }
+
+    public QuestionSchema getQuestionSchema(String questionId) {
+        return questionSchemaMap.get(questionId);
+    }
+
+    // 모든 질문에 정확히 하나씩 유효한 답변이 있는지 답변 수에 비례하는 시간으로 검사
+    public void validateReply(List<QuestionReplyRequestDto> questionReplyRequestDtoList) {
+        Set<String> repliedQuestionIdSet = new HashSet<>();
+        boolean hasDuplicateReply = false;
+
+        for (QuestionReplyRequestDto questionReplyRequestDto : questionReplyRequestDtoList) {
+            QuestionSchema questionSchema = questionSchemaMap.get(questionReplyRequestDto.getQuestionId());
+            if (questionSchema == null) {
+                throw new BadRequestException(
+                        ErrorCode.INVALID_PARAMETER,
+                        MessageUtil.INVALID_REPLY_INFO
+                );
+            }
+
+            questionSchema.validateReply(questionReplyRequestDto);
+
+            if (!repliedQuestionIdSet.add(questionSchema.getQuestionId())) {
+                hasDuplicateReply = true;
+            }
+        }
+
+        // 답변 개수 맞는지 확인
+        if (questionReplyRequestDtoList.size() != questionSchemaMap.size()) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.REPLY_SIZE_INVALID
+            );
+        }
+
+        // 답변 개수가 질문 개수와 같고 중복이 없으면 모든 질문에 답변이 하나씩 있음
+        if (hasDuplicateReply) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.INVALID_REPLY_INFO
+            );
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class QuestionSchema {
+
+        private final String questionId;
+        private final QuestionType questionType;
+        private final boolean isMultiple;
+        private final long allowedOptionMask;
+        private final Set<Integer> allowedOverflowOptionSet;
+
+        private static QuestionSchema from(FormQuestion formQuestion) {
+            List<Integer> optionNumberList = formQuestion.getFormQuestionOptionList()
+                    .stream()
+                    .map(FormQuestionOption::getNumber)
+                    .toList();
+
+            return new QuestionSchema(
+                    formQuestion.getId(),
+                    formQuestion.getQuestionType(),
+                    Boolean.TRUE.equals(formQuestion.getIsMultiple()),
+                    ReplySelectedOptionManager.toMask(optionNumberList),
+                    optionNumberList.stream()
+                            .filter(optionNumber -> !ReplySelectedOptionManager.isMaskable(optionNumber))
+                            .collect(Collectors.toUnmodifiableSet())
+            );
+        }
+
+        public boolean isObjective() {
+            return questionType.equals(QuestionType.OBJECTIVE);
+        }
+
+        private boolean isAllowedOption(int optionNumber) {
+            return ReplySelectedOptionManager.isMaskable(optionNumber)
+                    ? ReplySelectedOptionManager.isSelected(allowedOptionMask, optionNumber)
+                    : allowedOverflowOptionSet.contains(optionNumber);
+        }
+
+        private void validateReply(QuestionReplyRequestDto questionReplyRequestDto) {
+            List<Integer> selectedOptionList = questionReplyRequestDto.getSelectedOptionList();
+
+            // 객관식일 시: 주관식 답변 없이 유효한 옵션 번호만 선택했는지 검사
+            if (isObjective()) {
+                if (questionReplyRequestDto.getQuestionReply() != null || selectedOptionList == null) {
+                    throw new BadRequestException(
+                            ErrorCode.INVALID_PARAMETER,
+                            MessageUtil.INVALID_REPLY_INFO
+                    );
+                }
+
+                if (!isMultiple && selectedOptionList.size() > 1) {
+                    throw new BadRequestException(
+                            ErrorCode.INVALID_PARAMETER,
+                            MessageUtil.INVALID_REPLY_INFO
+                    );
+                }
+
+                for (Integer optionNumber : selectedOptionList) {
+                    if (optionNumber == null || !isAllowedOption(optionNumber)) {
+                        throw new BadRequestException(
+                                ErrorCode.INVALID_PARAMETER,
+                                MessageUtil.INVALID_REPLY_INFO
+                        );
+                    }
+                }
+            }
+            // 주관식일 시
+            else if (selectedOptionList != null) {
+                throw new BadRequestException(
+                        ErrorCode.INVALID_PARAMETER,
+                        MessageUtil.INVALID_REPLY_INFO
+                );
+            }
+        }
+    }
+}
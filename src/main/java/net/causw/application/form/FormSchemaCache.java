@@ -0,0 +1,45 @@
+package net.causw.application.form;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.causw.adapter.persistence.form.Form;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.model.util.TransactionAwareCacheEvictor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신청서 id 별 FormSchema 를 로컬 메모리에 보관합니다.
+ * 신청서가 열린 직후 몰리는 답변 제출마다 질문, 선지를 다시 조회하지 않도록 하며,
+ * 신청서 질문은 생성 이후 바뀌지 않으므로 신청서가 마감되거나 삭제될 때 evict 합니다.
+ */
+@Component
+public class FormSchemaCache {
+
+    private static final String CACHE_NAME = "formSchema";
+
+    private final Cache<String, FormSchema> cache;
+
+    public FormSchemaCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(StaticValue.FORM_SCHEMA_CACHE_MAX_SIZE)
+                .expireAfterAccess(StaticValue.FORM_SCHEMA_CACHE_TTL, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    // 캐시에 없을 때만 form 의 질문, 선지를 읽어 FormSchema 를 만듭니다.
+    public FormSchema get(Form form) {
+        return cache.get(form.getId(), key -> FormSchema.from(form));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+    public void evict(String formId) {
+        TransactionAwareCacheEvictor.evictNowAndAfterCommit(cache, formId);
+    }
+}
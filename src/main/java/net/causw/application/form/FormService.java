@@ -23,7 +23,9 @@ import net.causw.application.dto.form.response.reply.excel.ExcelReplyQuestionRes
 import net.causw.application.dto.form.response.reply.excel.ExcelReplyResponseDto;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.dto.util.dtoMapper.FormDtoMapper;
+import net.causw.application.excel.ChunkedEntityStreamFactory;
 import net.causw.application.excel.FormExcelService;
+import net.causw.application.userCouncilFee.UserCouncilFeeResolver;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -36,16 +38,21 @@ import net.causw.domain.model.enums.form.RegisteredSemester;
 import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
 import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.user.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @MeasureTime
 @Service
@@ -65,6 +72,9 @@ public class FormService {
     private final ReplyRepository replyRepository;
     private final PostRepository postRepository;
     private final FormExcelService formExcelService;
+    private final UserCouncilFeeResolver userCouncilFeeResolver;
+    private final ChunkedEntityStreamFactory chunkedEntityStreamFactory;
+    private final FormSchemaCache formSchemaCache;
 
     @Transactional
     public void setFormIsClosed(
@@ -85,6 +95,8 @@ public class FormService {
         form.setIsClosed(targetIsClosed);
 
         formRepository.save(form);
+
+        formSchemaCache.evict(form.getId());
     }
     
     public Boolean getCanReplyToPostForm(User user, String formId) {
@@ -152,58 +164,21 @@ public class FormService {
         validDuplicateReplyExist(writer, form);
 
         // 주관식, 객관식 질문에 따라 유효한 답변인지 검증 및 저장
+        FormSchema formSchema = formSchemaCache.get(form);
+        formSchema.validateReply(formReplyRequestDto.getQuestionReplyRequestDtoList());
+
         List<ReplyQuestion> replyQuestionList = new ArrayList<>();
 
         for (QuestionReplyRequestDto questionReplyRequestDto : formReplyRequestDto.getQuestionReplyRequestDtoList()) {
-            FormQuestion formQuestion = getQuestion(questionReplyRequestDto.getQuestionId());
-
-            // 객관식일 시
-            if (formQuestion.getQuestionType().equals(QuestionType.OBJECTIVE)) {
-                if (questionReplyRequestDto.getQuestionReply() != null) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-
-                if (!formQuestion.getIsMultiple() && questionReplyRequestDto.getSelectedOptionList().size() > 1) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-
-                // 객관식일 시: 유효한 옵션 번호 선택했는지 검사
-                List<Integer> formQuestionOptionNumberList = formQuestion.getFormQuestionOptionList()
-                        .stream()
-                        .map(FormQuestionOption::getNumber)
-                        .toList();
-
-                questionReplyRequestDto.getSelectedOptionList().forEach(optionNumber -> {
-                    if (!formQuestionOptionNumberList.contains(optionNumber)) {
-                        throw new BadRequestException(
-                                ErrorCode.INVALID_PARAMETER,
-                                MessageUtil.INVALID_REPLY_INFO
-                        );
-                    }
-                });
-            }
-            // 주관식일 시
-            else {
-                if (questionReplyRequestDto.getSelectedOptionList() != null) {
-                    throw new BadRequestException(
-                            ErrorCode.INVALID_PARAMETER,
-                            MessageUtil.INVALID_REPLY_INFO
-                    );
-                }
-            }
+            FormSchema.QuestionSchema questionSchema = formSchema.getQuestionSchema(questionReplyRequestDto.getQuestionId());
 
+            // 검증된 질문이므로 조회 없이 참조만 연결
             ReplyQuestion replyQuestion = ReplyQuestion.of(
-                    formQuestion,
-                    formQuestion.getQuestionType().equals(QuestionType.SUBJECTIVE) ?
-                            questionReplyRequestDto.getQuestionReply()
-                            : null,
-                    formQuestion.getQuestionType().equals(QuestionType.OBJECTIVE) ?
+                    questionRepository.getReferenceById(questionSchema.getQuestionId()),
+                    questionSchema.isObjective() ?
+                            null
+                            : questionReplyRequestDto.getQuestionReply(),
+                    questionSchema.isObjective() ?
                             questionReplyRequestDto.getSelectedOptionList()
                             : null
             );
@@ -211,30 +186,6 @@ public class FormService {
             replyQuestionList.add(replyQuestion);
         }
 
-        // 답변 개수 맞는지 확인
-        if (replyQuestionList.size() != form.getFormQuestionList().size()) {
-            throw new BadRequestException(
-                    ErrorCode.INVALID_PARAMETER,
-                    MessageUtil.REPLY_SIZE_INVALID
-            );
-        }
-
-        // 모든 문항에 대해 답변 정확히 하나 있는지 검사(답변 유효성 검사)
-        form.getFormQuestionList().forEach(formQuestion -> {
-            int questionReplyCount = 0;
-            for (ReplyQuestion replyQuestion : replyQuestionList) {
-                if (formQuestion.equals(replyQuestion.getFormQuestion())) {
-                    questionReplyCount++;
-                }
-            }
-            if (questionReplyCount != 1) {
-                throw new BadRequestException(
-                        ErrorCode.INVALID_PARAMETER,
-                        MessageUtil.INVALID_REPLY_INFO
-                );
-            }
-        });
-
         Reply reply = Reply.of(form, writer, replyQuestionList);
 
         replyQuestionList.forEach(replyQuestion -> replyQuestion.setReply(reply));
@@ -260,23 +211,28 @@ public class FormService {
 
         List<FormQuestion> formQuestionList = form.getFormQuestionList();
 
-        List<ReplyQuestion> replyQuestionList = replyQuestionRepository.findAllByReplyForm(form);
-
-        Map<FormQuestion, List<ReplyQuestion>> replyQuestionMap = formQuestionList
+        // 객관식은 선지별 선택 횟수를, 주관식은 질문별 답변 수와 첫 페이지 답변만 DB 에서 조회하여 답변 엔티티를 불러오지 않음
+        Map<String, Long> selectedCountMap = replyQuestionRepository.countSelectedGroupByOption(form.getId())
                 .stream()
                 .collect(Collectors.toMap(
-                        formQuestion -> formQuestion,
-                        formQuestion -> replyQuestionList.stream()
-                                .filter(replyQuestion -> replyQuestion.getFormQuestion().equals(formQuestion))
-                                .collect(Collectors.toList())
+                        OptionSelectedCountProjection::getOptionId,
+                        OptionSelectedCountProjection::getTotal
                 ));
 
+        Map<String, List<SubjectiveAnswerProjection>> subjectiveAnswerMap = replyQuestionRepository.findSubjectiveAnswerFirstPageByForm(
+                        form.getId(),
+                        StaticValue.FORM_SUMMARY_ANSWER_PAGE_SIZE
+                )
+                .stream()
+                .collect(Collectors.groupingBy(SubjectiveAnswerProjection::getFormQuestionId));
+
         List<QuestionSummaryResponseDto> questionSummaryResponseDtoList = new ArrayList<>();
         for (FormQuestion formQuestion : formQuestionList) {
             questionSummaryResponseDtoList.add(
                     toQuestionSummaryResponseDto(
                             formQuestion,
-                            replyQuestionMap.get(formQuestion)
+                            subjectiveAnswerMap.getOrDefault(formQuestion.getId(), List.of()),
+                            selectedCountMap
                     )
             );
         }
@@ -284,6 +240,24 @@ public class FormService {
         return questionSummaryResponseDtoList;
     }
 
+    // 주관식 질문의 답변을 페이징 조회
+    public Page<String> findSummaryAnswerPage(String formId, String questionId, Pageable pageable, User user) {
+        Form form = getForm(formId);
+
+        validateCanAccessFormResult(user, form);
+
+        FormQuestion formQuestion = getQuestion(questionId);
+        if (!formQuestion.getForm().getId().equals(form.getId())
+                || !formQuestion.getQuestionType().equals(QuestionType.SUBJECTIVE)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.INVALID_QUESTION_INFO
+            );
+        }
+
+        return replyQuestionRepository.findAnswerByFormQuestion(formQuestion, pageable);
+    }
+
     public void exportFormResult(String formId, User user, HttpServletResponse response) {
         Form form = getForm(formId);
 
@@ -295,6 +269,50 @@ public class FormService {
 
         ExcelReplyListResponseDto excelReplyListResponseDto = toExcelReplyListResponseDto(form, replyList);
 
+        List<String> headerStringList = buildExportHeaderStringList(excelReplyListResponseDto.getQuestionResponseDtoList());
+
+        LinkedHashMap<String, List<ExcelReplyResponseDto>> sheetNameDataMap = new LinkedHashMap<>();
+        sheetNameDataMap.put("결과", excelReplyListResponseDto.getExcelReplyResponseDtoList());
+
+        formExcelService.generateExcel(
+                response,
+                fileName,
+                headerStringList,
+                sheetNameDataMap
+        );
+    }
+
+    // 비동기 내보내기 작업 요청 시 접근 권한을 확인하고 결과 파일 이름을 반환
+    public String getFormResultExportFileName(String formId, User user) {
+        Form form = getForm(formId);
+
+        validateCanAccessFormResult(user, form);
+
+        return form.getTitle() + "_결과";
+    }
+
+    // 답변을 청크 단위로 조회하여 outputStream 에 엑셀로 작성 (비동기 내보내기 작업에서 사용)
+    public void writeFormResultExcel(String formId, OutputStream outputStream) {
+        Form form = getForm(formId);
+
+        List<String> headerStringList = buildExportHeaderStringList(
+                form.getFormQuestionList().stream()
+                        .map(this::toQuestionResponseDto)
+                        .toList()
+        );
+
+        LinkedHashMap<String, Supplier<Stream<ExcelReplyResponseDto>>> sheetDataMap = new LinkedHashMap<>();
+        sheetDataMap.put("결과", () -> chunkedEntityStreamFactory.stream(
+                lastId -> replyRepository.findByForm_IdAndIdGreaterThanOrderByIdAsc(formId, lastId, PageRequest.of(0, StaticValue.EXCEL_EXPORT_CHUNK_SIZE)),
+                Reply::getId,
+                this::toExcelReplyResponseDtoList
+        ));
+
+        formExcelService.writeStreamingExcel(outputStream, headerStringList, sheetDataMap);
+    }
+
+    // private methods
+    private List<String> buildExportHeaderStringList(List<QuestionResponseDto> questionResponseDtoList) {
         List<String> headerStringList = new ArrayList<>(List.of(
                 "제출 시각",
                 "이메일(아이디)",
@@ -315,7 +333,7 @@ public class FormService {
                 "잔여 학생회비 적용 학기",
                 "환불 여부"
         ));
-        List<String> questionStringList = excelReplyListResponseDto.getQuestionResponseDtoList()
+        List<String> questionStringList = questionResponseDtoList
                 .stream()
                 .map(questionResponseDto -> (
                         questionResponseDto.getQuestionNumber().toString()
@@ -324,18 +342,9 @@ public class FormService {
                 )).toList();
         headerStringList.addAll(questionStringList);
 
-        LinkedHashMap<String, List<ExcelReplyResponseDto>> sheetNameDataMap = new LinkedHashMap<>();
-        sheetNameDataMap.put("결과", excelReplyListResponseDto.getExcelReplyResponseDtoList());
-
-        formExcelService.generateExcel(
-                response,
-                fileName,
-                headerStringList,
-                sheetNameDataMap
-        );
+        return headerStringList;
     }
 
-    // private methods
     // 중복 답변 검사
     private void validDuplicateReplyExist(User writer, Form form) {
         if (replyRepository.existsByFormAndUser(form, writer)) {
@@ -558,6 +567,10 @@ public class FormService {
     // Dto Mapper
 
     private ReplyPageResponseDto toReplyPageResponseDto(Form form, Page<Reply> replyPage) {
+        Map<String, UserCouncilFee> userCouncilFeeMap = userCouncilFeeResolver.resolveByUserList(
+                replyPage.getContent().stream().map(Reply::getUser).toList()
+        );
+
         return FormDtoMapper.INSTANCE.toReplyPageResponseDto(
                 form.getFormQuestionList().stream()
                         .map(this::toQuestionResponseDto)
@@ -573,6 +586,7 @@ public class FormService {
 
                     return this.toReplyResponseDto(
                             replyUser,
+                            userCouncilFeeMap.get(replyUser.getId()),
                             questionReplyList,
                             reply.getCreatedAt()
                     );
@@ -605,17 +619,16 @@ public class FormService {
         return FormDtoMapper.INSTANCE.toReplyQuestionResponseDto(replyQuestion);
     }
 
-    private ReplyResponseDto toReplyResponseDto(User user, List<ReplyQuestionResponseDto> replyQuestionResponseDtoList, LocalDateTime createdAt) {
+    private ReplyResponseDto toReplyResponseDto(User user, UserCouncilFee userCouncilFee, List<ReplyQuestionResponseDto> replyQuestionResponseDtoList, LocalDateTime createdAt) {
         return FormDtoMapper.INSTANCE.toReplyResponseDto(
-                this.toReplyUserResponseDto(user),
+                this.toReplyUserResponseDto(user, userCouncilFee),
                 replyQuestionResponseDtoList,
                 createdAt
         );
     }
 
-    private ReplyUserResponseDto toReplyUserResponseDto(User user) {
-        UserCouncilFee userCouncilFee = userCouncilFeeRepository.findByUser(user).orElse(null);
-
+    // userCouncilFee 는 UserCouncilFeeResolver 로 한 번에 조회한 값을 전달
+    private ReplyUserResponseDto toReplyUserResponseDto(User user, UserCouncilFee userCouncilFee) {
         if (userCouncilFee == null) {
             return FormDtoMapper.INSTANCE.toReplyUserResponseDto(user, null, null, null);
         }
@@ -631,28 +644,26 @@ public class FormService {
 
     private QuestionSummaryResponseDto toQuestionSummaryResponseDto(
             FormQuestion formQuestion,
-            List<ReplyQuestion> replyQuestionList
+            List<SubjectiveAnswerProjection> subjectiveAnswerList,
+            Map<String, Long> selectedCountMap
     ) {
         if (formQuestion.getQuestionType().equals(QuestionType.SUBJECTIVE)) {
-            List<String> answerList = replyQuestionList.stream()
-                    .map(ReplyQuestion::getQuestionAnswer)
-                    .toList();
+            // 답변은 첫 페이지만 담고, 총 응답 수는 전체 답변 수를 반환
             return FormDtoMapper.INSTANCE.toQuestionSummaryResponseDto(
                     formQuestion,
-                    answerList,
+                    subjectiveAnswerList.stream()
+                            .map(SubjectiveAnswerProjection::getQuestionAnswer)
+                            .toList(),
                     null,
-                    (long) answerList.size(),
+                    subjectiveAnswerList.isEmpty() ? 0L : subjectiveAnswerList.get(0).getTotal(),
                     findIsMultiple(formQuestion)
             );
         } else {
             List<OptionSummaryResponseDto> answerList = formQuestion.getFormQuestionOptionList().stream()
-                    .map(formQuestionOption -> {
-                        Long selectedCount = replyQuestionList
-                                .stream()
-                                .filter(replyQuestion -> replyQuestion.getSelectedOptionList().contains(formQuestionOption.getNumber()))
-                                .count();
-                        return toOptionSummaryResponseDto(formQuestionOption, selectedCount);
-                    })
+                    .map(formQuestionOption -> toOptionSummaryResponseDto(
+                            formQuestionOption,
+                            selectedCountMap.getOrDefault(formQuestionOption.getId(), 0L)
+                    ))
                     .toList();
             return FormDtoMapper.INSTANCE.toQuestionSummaryResponseDto(
                     formQuestion,
@@ -690,28 +701,38 @@ public class FormService {
                         .map(this::toQuestionResponseDto)
                         .toList(),
 
-                replyList.stream()
-                        .map(reply -> {
-                            User replyUser = reply.getUser();
-
-                            List<ExcelReplyQuestionResponseDto> excelReplyQuestionResponseDtoList = reply.getReplyQuestionList()
-                                    .stream()
-                                    .map(this::toExcelReplyQuestionResponseDto)
-                                    .toList();
-
-                            return this.toExcelReplyResponseDto(
-                                    replyUser,
-                                    excelReplyQuestionResponseDtoList,
-                                    reply.getCreatedAt()
-                            );
-                        })
-                        .toList()
+                toExcelReplyResponseDtoList(replyList)
+        );
+    }
+
+    // 학생회비 정보는 replyList 단위로 한 번에 조회
+    private List<ExcelReplyResponseDto> toExcelReplyResponseDtoList(List<Reply> replyList) {
+        Map<String, UserCouncilFee> userCouncilFeeMap = userCouncilFeeResolver.resolveByUserList(
+                replyList.stream().map(Reply::getUser).toList()
         );
+
+        return replyList.stream()
+                .map(reply -> {
+                    User replyUser = reply.getUser();
+
+                    List<ExcelReplyQuestionResponseDto> excelReplyQuestionResponseDtoList = reply.getReplyQuestionList()
+                            .stream()
+                            .map(this::toExcelReplyQuestionResponseDto)
+                            .toList();
+
+                    return this.toExcelReplyResponseDto(
+                            replyUser,
+                            userCouncilFeeMap.get(replyUser.getId()),
+                            excelReplyQuestionResponseDtoList,
+                            reply.getCreatedAt()
+                    );
+                })
+                .toList();
     }
 
-    private ExcelReplyResponseDto toExcelReplyResponseDto(User replyUser, List<ExcelReplyQuestionResponseDto> excelReplyQuestionResponseDtoList, LocalDateTime createdAt) {
+    private ExcelReplyResponseDto toExcelReplyResponseDto(User replyUser, UserCouncilFee userCouncilFee, List<ExcelReplyQuestionResponseDto> excelReplyQuestionResponseDtoList, LocalDateTime createdAt) {
         return FormDtoMapper.INSTANCE.toExcelReplyResponseDto(
-                this.toReplyUserResponseDto(replyUser),
+                this.toReplyUserResponseDto(replyUser, userCouncilFee),
                 excelReplyQuestionResponseDtoList,
                 createdAt
         );
@@ -0,0 +1,26 @@
+package net.causw.application.homepage;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.post.PostChangedEvent;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class HomePageCacheEvictListener {
+
+    private final CacheManager cacheManager;
+
+    // 커밋 이후에 비워야 다른 요청이 커밋 전 데이터로 캐시를 다시 채우지 않습니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictHomePage(PostChangedEvent postChangedEvent) {
+        Optional.ofNullable(cacheManager.getCache(StaticValue.HOME_PAGE_CACHE))
+                .ifPresent(Cache::clear);
+    }
+}
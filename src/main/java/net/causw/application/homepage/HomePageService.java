@@ -5,13 +5,15 @@ import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.circle.Circle;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.pageable.PageableFactory;
+import net.causw.application.post.PostCount;
+import net.causw.application.post.PostCountLoader;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
-import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
-import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.homepage.BoardPostsCacheDto;
+import net.causw.application.dto.homepage.HomePageCacheDto;
 import net.causw.application.dto.homepage.HomePageResponseDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.util.dtoMapper.BoardDtoMapper;
@@ -25,6 +27,10 @@ import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -37,9 +43,9 @@ public class HomePageService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
-    private final LikePostRepository likePostRepository;
-    private final FavoritePostRepository favoritePostRepository;
     private final PageableFactory pageableFactory;
+    private final PostCountLoader postCountLoader;
+    private final CacheManager cacheManager;
 
     public List<HomePageResponseDto> getHomePage(User user) {
         Set<Role> roles = user.getRoles();
@@ -57,24 +63,81 @@ public class HomePageService {
             );
         }
 
+        Map<String, BoardPostsCacheDto> boardPostsMap = getHomePageCache(boards).getBoardPostsList()
+                .stream()
+                .collect(Collectors.toMap(BoardPostsCacheDto::getBoardId, boardPosts -> boardPosts));
+
+        // 작성 가능 여부처럼 사용자 권한에 따라 달라지는 값은 캐시하지 않고 요청마다 계산
         return boards
                 .stream()
-                .map(board -> HomePageResponseDto.of(
-                        toBoardResponseDto(board, roles),
-                        postRepository.findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(board.getId(), pageableFactory.create(0, StaticValue.HOME_POST_PAGE_SIZE))
-                                .map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                                        post,
-                                        postRepository.countAllCommentByPost_Id(post.getId()),
-                                        getNumOfPostLikes(post),
-                                        getNumOfPostFavorites(post),
-                                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                                        StatusUtil.isPostVote(post),
-                                        post.getForm() != null
-                                )))
-                )
+                .map(board -> {
+                    BoardPostsCacheDto boardPosts = boardPostsMap.get(board.getId());
+                    return HomePageResponseDto.of(
+                            toBoardResponseDto(board, roles),
+                            new PageImpl<>(
+                                    boardPosts.getPosts(),
+                                    pageableFactory.create(0, StaticValue.HOME_POST_PAGE_SIZE),
+                                    boardPosts.getTotalElements()
+                            )
+                    );
+                })
                 .collect(Collectors.toList());
     }
 
+    // 게시판 구성(id 목록)을 키로 홈 화면 스냅샷을 캐시, 게시글 변경 시 HomePageCacheEvictListener 가 비웁니다.
+    private HomePageCacheDto getHomePageCache(List<Board> boards) {
+        String cacheKey = boards.stream()
+                .map(Board::getId)
+                .collect(Collectors.joining(","));
+
+        Cache cache = cacheManager.getCache(StaticValue.HOME_PAGE_CACHE);
+        if (cache == null) {
+            return loadHomePage(boards);
+        }
+
+        return cache.get(cacheKey, () -> loadHomePage(boards));
+    }
+
+    private HomePageCacheDto loadHomePage(List<Board> boards) {
+        Map<Board, Page<Post>> postsByBoard = new LinkedHashMap<>();
+        boards.forEach(board -> postsByBoard.put(
+                board,
+                postRepository.findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(board.getId(), pageableFactory.create(0, StaticValue.HOME_POST_PAGE_SIZE))
+        ));
+
+        // 모든 게시판의 게시글 카운트를 한 번에 조회
+        Map<String, PostCount> postCounts = postCountLoader.load(
+                postsByBoard.values().stream()
+                        .flatMap(posts -> posts.getContent().stream())
+                        .toList()
+        );
+
+        return HomePageCacheDto.of(
+                postsByBoard.entrySet()
+                        .stream()
+                        .map(entry -> BoardPostsCacheDto.of(
+                                entry.getKey().getId(),
+                                entry.getValue().getContent()
+                                        .stream()
+                                        .map(post -> {
+                                            PostCount postCount = postCounts.getOrDefault(post.getId(), PostCount.empty());
+                                            return PostDtoMapper.INSTANCE.toPostsResponseDto(
+                                                    post,
+                                                    postCount.getNumAllComment(),
+                                                    postCount.getNumLike(),
+                                                    postCount.getNumFavorite(),
+                                                    !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
+                                                    StatusUtil.isPostVote(post),
+                                                    post.getForm() != null
+                                            );
+                                        })
+                                        .collect(Collectors.toList()),
+                                entry.getValue().getTotalElements()
+                        ))
+                        .collect(Collectors.toList())
+        );
+    }
+
     private BoardResponseDto toBoardResponseDto(Board board, Set<Role> userRoles) {
         List<String> roles = Arrays.asList(board.getCreateRoles().split(","));
         Boolean writable = userRoles.stream()
@@ -90,12 +153,4 @@ public class HomePageService {
                 circleName
         );
     }
-
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
-    }
 }
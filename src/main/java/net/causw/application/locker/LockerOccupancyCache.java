@@ -0,0 +1,98 @@
+package net.causw.application.locker;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.causw.adapter.persistence.repository.locker.LockerLocationCountProjection;
+import net.causw.adapter.persistence.repository.locker.LockerLocationRepository;
+import net.causw.adapter.persistence.repository.locker.LockerRepository;
+import net.causw.application.dto.locker.LockerLocationResponseDto;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.model.util.TransactionAwareCacheEvictor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사물함 위치 별 사용 가능/전체 사물함 수를 로컬 메모리에 보관합니다.
+ * 신청 기간에 반복 조회되는 위치 목록 화면이 위치 수만큼 count 쿼리를 실행하지 않도록 GROUP BY 한 번으로 집계하며,
+ * 신청/반납은 커밋 이후 adjustEnableCount 로 캐시된 값을 직접 갱신하고, 그 외 사물함 구성이 바뀌면 evict 를 호출합니다.
+ * 다른 인스턴스는 LOCKER_OCCUPANCY_CACHE_TTL 이후 갱신됩니다.
+ */
+@Component
+public class LockerOccupancyCache {
+
+    private static final String CACHE_NAME = "lockerOccupancy";
+    private static final String CACHE_KEY = "occupancy";
+
+    private final LoadingCache<String, List<LockerLocationResponseDto>> cache;
+    private final LockerRepository lockerRepository;
+    private final LockerLocationRepository lockerLocationRepository;
+
+    public LockerOccupancyCache(
+            LockerRepository lockerRepository,
+            LockerLocationRepository lockerLocationRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.lockerRepository = lockerRepository;
+        this.lockerLocationRepository = lockerLocationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(StaticValue.LOCKER_OCCUPANCY_CACHE_TTL, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build(key -> load());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    public List<LockerLocationResponseDto> get() {
+        return cache.get(CACHE_KEY);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+    public void evict() {
+        TransactionAwareCacheEvictor.evictNowAndAfterCommit(cache, CACHE_KEY);
+    }
+
+    // 캐시된 목록이 있을 때만 해당 위치의 사용 가능 사물함 수를 delta 만큼 바꿉니다.
+    public void adjustEnableCount(String locationId, long delta) {
+        TransactionAwareCacheEvictor.runAfterCommit(() -> adjustEnableCountNow(locationId, delta));
+    }
+
+    private void adjustEnableCountNow(String locationId, long delta) {
+        cache.asMap().computeIfPresent(CACHE_KEY, (key, lockerLocations) -> lockerLocations.stream()
+                .map(lockerLocation -> lockerLocation.getId().equals(locationId)
+                        ? LockerLocationResponseDto.builder()
+                                .id(lockerLocation.getId())
+                                .name(lockerLocation.getName())
+                                .enableLockerCount(Math.max(0L, lockerLocation.getEnableLockerCount() + delta))
+                                .totalLockerCount(lockerLocation.getTotalLockerCount())
+                                .build()
+                        : lockerLocation)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    private List<LockerLocationResponseDto> load() {
+        Map<String, LockerLocationCountProjection> countMap = lockerRepository.countGroupByLocation()
+                .stream()
+                .collect(Collectors.toMap(LockerLocationCountProjection::getLocationId, Function.identity()));
+
+        return lockerLocationRepository.findAll()
+                .stream()
+                .map(lockerLocation -> {
+                    Optional<LockerLocationCountProjection> count = Optional.ofNullable(countMap.get(lockerLocation.getId()));
+                    return LockerLocationResponseDto.of(
+                            lockerLocation,
+                            count.map(LockerLocationCountProjection::getEnable).orElse(0L),
+                            count.map(LockerLocationCountProjection::getTotal).orElse(0L)
+                    );
+                })
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
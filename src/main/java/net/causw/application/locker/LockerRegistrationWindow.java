@@ -0,0 +1,25 @@
+package net.causw.application.locker;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LockerRegistrationWindow {
+
+    private final Boolean isAccessible;
+
+    private final LocalDateTime expiredAt;
+
+    public static LockerRegistrationWindow of(Boolean isAccessible, LocalDateTime expiredAt) {
+        return new LockerRegistrationWindow(isAccessible, expiredAt);
+    }
+
+    public Optional<LocalDateTime> getExpiredAt() {
+        return Optional.ofNullable(this.expiredAt);
+    }
+}
@@ -0,0 +1,75 @@
+package net.causw.application.locker;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.causw.adapter.persistence.flag.Flag;
+import net.causw.adapter.persistence.repository.flag.FlagRepository;
+import net.causw.adapter.persistence.repository.textField.TextFieldRepository;
+import net.causw.adapter.persistence.textfield.TextField;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.model.util.TransactionAwareCacheEvictor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사물함 신청 가능 여부(LOCKER_ACCESS)와 반납일(EXPIRED_AT)을 로컬 메모리에 보관합니다.
+ * 신청 시작 직후 몰리는 요청마다 Flag, TextField 를 조회하지 않도록 하며,
+ * 값이 바뀌면 CommonService 에서 evict 를 호출하고, 다른 인스턴스는 LOCKER_REGISTRATION_WINDOW_CACHE_TTL 이후 갱신됩니다.
+ */
+@Component
+public class LockerRegistrationWindowCache {
+
+    private static final String CACHE_NAME = "lockerRegistrationWindow";
+    private static final String CACHE_KEY = "window";
+
+    private final LoadingCache<String, LockerRegistrationWindow> cache;
+    private final FlagRepository flagRepository;
+    private final TextFieldRepository textFieldRepository;
+
+    public LockerRegistrationWindowCache(
+            FlagRepository flagRepository,
+            TextFieldRepository textFieldRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.flagRepository = flagRepository;
+        this.textFieldRepository = textFieldRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(StaticValue.LOCKER_REGISTRATION_WINDOW_CACHE_TTL, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build(key -> load());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    public LockerRegistrationWindow get() {
+        return cache.get(CACHE_KEY);
+    }
+
+    public boolean isRelatedKey(String key) {
+        return StaticValue.LOCKER_ACCESS.equals(key) || StaticValue.EXPIRED_AT.equals(key);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+    public void evict() {
+        TransactionAwareCacheEvictor.evictNowAndAfterCommit(cache, CACHE_KEY);
+    }
+
+    private LockerRegistrationWindow load() {
+        Boolean isAccessible = flagRepository.findByKey(StaticValue.LOCKER_ACCESS)
+                .map(Flag::getValue)
+                .orElse(false);
+
+        LocalDateTime expiredAt = textFieldRepository.findByKey(StaticValue.EXPIRED_AT)
+                .map(TextField::getValue)
+                .map(value -> LocalDateTime.parse(value, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm")))
+                .orElse(null);
+
+        return LockerRegistrationWindow.of(isAccessible, expiredAt);
+    }
+}
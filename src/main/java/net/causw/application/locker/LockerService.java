@@ -10,6 +10,7 @@ import net.causw.adapter.persistence.repository.locker.LockerRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.application.common.CommonService;
+import net.causw.application.dto.locker.LockerBulkCreateRequestDto;
 import net.causw.application.dto.locker.LockerCreateRequestDto;
 import net.causw.application.dto.locker.LockerExpiredAtRequestDto;
 import net.causw.application.dto.locker.LockerLocationCreateRequestDto;
@@ -18,6 +19,7 @@ import net.causw.application.dto.locker.LockerLocationUpdateRequestDto;
 import net.causw.application.dto.locker.LockerLocationsResponseDto;
 import net.causw.application.dto.locker.LockerLogResponseDto;
 import net.causw.application.dto.locker.LockerMoveRequestDto;
+import net.causw.application.dto.locker.LockerRangeRequestDto;
 import net.causw.application.dto.locker.LockerResponseDto;
 import net.causw.application.dto.locker.LockerUpdateRequestDto;
 import net.causw.application.dto.locker.LockersResponseDto;
@@ -30,22 +32,31 @@ import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.ConstraintValidator;
+import net.causw.domain.validation.LockerAccessValidator;
 import net.causw.domain.validation.LockerExpiredAtValidator;
 import net.causw.domain.validation.LockerInUseValidator;
+import net.causw.domain.validation.LockerIsDeactivatedValidator;
 import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Validator;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 @MeasureTime
 @Service
 @RequiredArgsConstructor
@@ -59,6 +70,10 @@ public class LockerService {
     private final Validator validator;
     private final LockerActionFactory lockerActionFactory;
     private final CommonService commonService;
+    private final LockerRegistrationWindowCache lockerRegistrationWindowCache;
+    private final LockerOccupancyCache lockerOccupancyCache;
+    private final LockerStateStreamService lockerStateStreamService;
+    private final EntityManager entityManager;
 
     public LockerResponseDto findById(String id, User user) {
         return LockerResponseDto.of(lockerRepository.findByIdForRead(id).orElseThrow(
@@ -103,6 +118,8 @@ public class LockerService {
         lockerRepository.save(locker);
         lockerLogRepository.save(LockerLog.of(locker.getLockerNumber(), lockerLocation.getName(), user.getEmail(), user.getName(), LockerLogAction.ENABLE,
                 MessageUtil.LOCKER_FIRST_CREATED));
+        lockerOccupancyCache.evict();
+        lockerStateStreamService.publish(locker);
         return LockerResponseDto.of(locker, user);
     }
 
@@ -114,16 +131,20 @@ public class LockerService {
     ) {
         Set<Role> roles = user.getRoles();
 
-        Locker locker = lockerRepository.findById(lockerId).orElseThrow(() -> new BadRequestException(
-                ErrorCode.ROW_DOES_NOT_EXIST,
-                MessageUtil.LOCKER_NOT_FOUND
-        ));
-
         ValidatorBucket.of()
                 .consistOf(UserStateValidator.of(user.getState()))
                 .consistOf(UserRoleIsNoneValidator.of(roles))
                 .validate();
 
+        if (LockerLogAction.of(lockerUpdateRequestDto.getAction()) == LockerLogAction.REGISTER) {
+            return this.register(user, lockerId, lockerUpdateRequestDto);
+        }
+
+        Locker locker = lockerRepository.findByIdForWrite(lockerId).orElseThrow(() -> new BadRequestException(
+                ErrorCode.ROW_DOES_NOT_EXIST,
+                MessageUtil.LOCKER_NOT_FOUND
+        ));
+
         locker = this.lockerActionFactory
                 .getLockerAction(LockerLogAction.of(
                         lockerUpdateRequestDto.getAction()
@@ -149,6 +170,15 @@ public class LockerService {
 
         lockerRepository.save(locker);
         lockerLogRepository.save(lockerLog);
+        lockerStateStreamService.publish(locker);
+
+        switch (LockerLogAction.of(lockerUpdateRequestDto.getAction())) {
+            case RETURN -> lockerOccupancyCache.adjustEnableCount(locker.getLocation().getId(), 1L);
+            case ENABLE, DISABLE -> lockerOccupancyCache.evict();
+            default -> {
+            }
+        }
+
         return LockerResponseDto.of(locker, user);
     }
 
@@ -184,6 +214,9 @@ public class LockerService {
 
         lockerRepository.save(locker);
 
+        lockerOccupancyCache.evict();
+        lockerStateStreamService.publish(locker);
+
         return LockerResponseDto.of(locker, user);
     }
 
@@ -209,6 +242,8 @@ public class LockerService {
                 .validate();
 
         lockerRepository.delete(locker);
+        lockerOccupancyCache.evict();
+        lockerStateStreamService.publishDeleted(locker);
 
         LockerLog lockerLog = LockerLog.of(locker.getLockerNumber(), locker.getLocation().getName(), user.getEmail(), user.getName(), LockerLogAction.DISABLE,
                 MessageUtil.LOCKER_DELETED);
@@ -246,14 +281,7 @@ public class LockerService {
                     .orElse(null);
 
         return LockerLocationsResponseDto.of(
-                lockerLocationRepository.findAll()
-                        .stream()
-                        .map(lockerLocation -> LockerLocationResponseDto.of(
-                                lockerLocation,
-                                lockerRepository.countByLocationIdAndIsActiveIsTrueAndUserIdIsNull(lockerLocation.getId()),
-                                lockerRepository.countByLocationId(lockerLocation.getId())
-                        ))
-                        .collect(Collectors.toList()),
+                lockerOccupancyCache.get(),
                 myLocker
         );
     }
@@ -317,6 +345,7 @@ public class LockerService {
         lockerLocation.update(
                 lockerLocationRequestDto.getName()
         );
+        lockerOccupancyCache.evict();
 
         ValidatorBucket.of()
                 .consistOf(UserStateValidator.of(user.getState()))
@@ -356,6 +385,7 @@ public class LockerService {
                 .validate();
 
         lockerLocationRepository.delete(lockerLocation);
+        lockerOccupancyCache.evict();
 
         return LockerLocationResponseDto.of(lockerLocation, 0L, 0L);
     }
@@ -406,10 +436,102 @@ public class LockerService {
                 );
     }
 
+    @Transactional
+    public void createLockersInBulk(
+            User user,
+            LockerBulkCreateRequestDto lockerBulkCreateRequestDto
+    ) {
+        Set<Role> roles = user.getRoles();
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(roles))
+                .consistOf(UserRoleValidator.of(roles, Set.of()))
+                .validate();
+
+        List<LockerRangeRequestDto> lockerRangeList = lockerBulkCreateRequestDto.getLockerRangeList();
+
+        long totalLockerCount = 0L;
+        for (LockerRangeRequestDto lockerRange : lockerRangeList) {
+            if (lockerRange.getStartLockerNumber() > lockerRange.getEndLockerNumber()) {
+                throw new BadRequestException(
+                        ErrorCode.INVALID_PARAMETER,
+                        MessageUtil.LOCKER_INVALID_NUMBER_RANGE
+                );
+            }
+
+            // 범위마다 먼저 상한을 확인하여, 큰 범위를 여러 개 요청해도 합계가 overflow 되지 않도록 함
+            long lockerCount = lockerRange.getEndLockerNumber() - lockerRange.getStartLockerNumber() + 1;
+            if (lockerCount <= 0 || lockerCount > StaticValue.LOCKER_BULK_CREATE_MAX_COUNT) {
+                throw new BadRequestException(
+                        ErrorCode.INVALID_PARAMETER,
+                        MessageUtil.LOCKER_BULK_CREATE_LIMIT_EXCEEDED
+                );
+            }
+
+            totalLockerCount += lockerCount;
+            if (totalLockerCount > StaticValue.LOCKER_BULK_CREATE_MAX_COUNT) {
+                throw new BadRequestException(
+                        ErrorCode.INVALID_PARAMETER,
+                        MessageUtil.LOCKER_BULK_CREATE_LIMIT_EXCEEDED
+                );
+            }
+        }
+
+        Map<String, LockerLocation> lockerLocationMap = lockerLocationRepository.findAllById(
+                        lockerRangeList.stream()
+                                .map(LockerRangeRequestDto::getLockerLocationId)
+                                .collect(Collectors.toSet())
+                )
+                .stream()
+                .collect(Collectors.toMap(LockerLocation::getId, Function.identity()));
+
+        Set<String> lockerKeySet = new HashSet<>();
+        List<Locker> lockerList = new ArrayList<>();
+        for (LockerRangeRequestDto lockerRange : lockerRangeList) {
+            LockerLocation lockerLocation = Optional.ofNullable(lockerLocationMap.get(lockerRange.getLockerLocationId()))
+                    .orElseThrow(
+                            () -> new BadRequestException(
+                                    ErrorCode.ROW_DOES_NOT_EXIST,
+                                    MessageUtil.LOCKER_WRONG_POSITION
+                            )
+                    );
+
+            // 이미 존재하는 번호이거나, 요청 안에서 범위가 겹치는 경우
+            boolean isDuplicated = !lockerRepository.findLockerNumbersInRange(
+                    lockerLocation.getId(),
+                    lockerRange.getStartLockerNumber(),
+                    lockerRange.getEndLockerNumber()
+            ).isEmpty() || LongStream.rangeClosed(lockerRange.getStartLockerNumber(), lockerRange.getEndLockerNumber())
+                    .anyMatch(lockerNumber -> !lockerKeySet.add(lockerLocation.getId() + ":" + lockerNumber));
+
+            if (isDuplicated) {
+                throw new BadRequestException(
+                        ErrorCode.ROW_ALREADY_EXIST,
+                        MessageUtil.LOCKER_DUPLICATE_NUMBER
+                );
+            }
+
+            List<Locker> rangeLockerList = createLockers(lockerLocation, lockerRange.getStartLockerNumber(), lockerRange.getEndLockerNumber());
+            rangeLockerList.forEach(locker -> ValidatorBucket.of()
+                    .consistOf(ConstraintValidator.of(locker, this.validator))
+                    .validate());
+            lockerList.addAll(rangeLockerList);
+        }
+
+        saveLockersInBatch(user, lockerList);
+        lockerOccupancyCache.evict();
+    }
+
     @Transactional
     public void createAllLockers(User user) {
-        ValidatorBucket validatorBucket = ValidatorBucket.of();
+        Set<Role> roles = user.getRoles();
 
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(roles))
+                .consistOf(UserRoleValidator.of(roles, Set.of()))
+                .validate();
 
         LockerLocation lockerLocationSecondFloor = LockerLocation.of("Second Floor");
         lockerLocationRepository.save(lockerLocationSecondFloor);
@@ -420,44 +542,152 @@ public class LockerService {
         LockerLocation lockerLocationFourthFloor = LockerLocation.of("Fourth Floor");
         lockerLocationRepository.save(lockerLocationFourthFloor);
 
-        createLockerByLockerLocationAndEndLockerNumber(lockerLocationSecondFloor, validatorBucket, user, 136L);
-        createLockerByLockerLocationAndEndLockerNumber(lockerLocationThirdFloor, validatorBucket, user, 168L);
-        createLockerByLockerLocationAndEndLockerNumber(lockerLocationFourthFloor, validatorBucket, user, 32L);
+        List<Locker> lockerList = new ArrayList<>();
+        lockerList.addAll(createLockers(lockerLocationSecondFloor, 1L, 136L));
+        lockerList.addAll(createLockers(lockerLocationThirdFloor, 1L, 168L));
+        lockerList.addAll(createLockers(lockerLocationFourthFloor, 1L, 32L));
+
+        saveLockersInBatch(user, lockerList);
+        lockerOccupancyCache.evict();
     }
 
 
     // private methods
 
-    private void createLockerByLockerLocationAndEndLockerNumber(LockerLocation lockerLocationSecondFloor, ValidatorBucket validatorBucket, User user, Long endNum) {
-        for (Long lockerNumber = 1L; lockerNumber <= endNum; lockerNumber++) {
-
-            Locker locker = Locker.of(
-                    lockerNumber,
-                    true,
-                    null,
-                    lockerLocationSecondFloor,
-                    null
-            );
-            Set<Role> roles = user.getRoles();
+    /*
+     * 사물함 신청은 조건부 UPDATE 한 번으로 선점합니다.
+     * 같은 사물함에 동시에 신청하면 행 잠금 순서대로 하나만 배정되고, 나머지는 추가 잠금 없이 바로 실패합니다.
+     * 기존 사물함은 선점 전에 같은 트랜잭션에서 먼저 반납하며, 선점에 실패하면 트랜잭션이 롤백되어 기존 사물함을 잃지 않습니다.
+     */
+    private LockerResponseDto register(
+            User user,
+            String lockerId,
+            LockerUpdateRequestDto lockerUpdateRequestDto
+    ) {
+        boolean isAdmin = user.getRoles().contains(Role.ADMIN);
+        LockerRegistrationWindow lockerRegistrationWindow = lockerRegistrationWindowCache.get();
 
-            validatorBucket
-                    .consistOf(UserStateValidator.of(user.getState()))
-                    .consistOf(UserRoleIsNoneValidator.of(roles))
-                    .consistOf(UserRoleValidator.of(roles, Set.of()))
-                    .consistOf(ConstraintValidator.of(locker, this.validator))
+        if (!isAdmin) {
+            ValidatorBucket.of()
+                    .consistOf(LockerAccessValidator.of(lockerRegistrationWindow.getIsAccessible()))
                     .validate();
+        }
 
-            lockerRepository.save(locker);
+        LocalDateTime expiredAt = lockerRegistrationWindow.getExpiredAt().orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        MessageUtil.LOCKER_RETURN_TIME_NOT_SET
+                )
+        );
 
-            LockerLog lockerLog = LockerLog.of(
-                    lockerNumber,
-                    lockerLocationSecondFloor.getName(),
+        // tb_locker 의 user_id 는 unique 이므로, 기존 사물함을 먼저 반납하고 반영(flush)한 뒤 새 사물함을 배정
+        // 배정에 실패하면 트랜잭션이 롤백되어 기존 사물함도 그대로 유지됩니다.
+        Optional<Locker> returnedLocker = isAdmin
+                ? Optional.empty()
+                : lockerRepository.findByUser_IdAndIdNot(user.getId(), lockerId);
+        returnedLocker.ifPresent(existingLocker -> {
+            existingLocker.returnLocker();
+            lockerLogRepository.save(LockerLog.of(
+                    existingLocker.getLockerNumber(),
+                    existingLocker.getLocation().getName(),
                     user.getEmail(),
                     user.getName(),
-                    LockerLogAction.ENABLE,
-                    MessageUtil.LOCKER_FIRST_CREATED
+                    LockerLogAction.RETURN,
+                    "사물함 반납"
+            ));
+            lockerRepository.flush();
+        });
+
+        if (lockerRepository.claim(lockerId, user, expiredAt, LocalDateTime.now()) == 0) {
+            Locker locker = lockerRepository.findById(lockerId).orElseThrow(() -> new BadRequestException(
+                    ErrorCode.ROW_DOES_NOT_EXIST,
+                    MessageUtil.LOCKER_NOT_FOUND
+            ));
+
+            ValidatorBucket.of()
+                    .consistOf(LockerInUseValidator.of(locker.getUser().isPresent()))
+                    .consistOf(LockerIsDeactivatedValidator.of(locker.getIsActive()))
+                    .validate();
+
+            throw new BadRequestException(
+                    ErrorCode.CANNOT_PERFORMED,
+                    MessageUtil.LOCKER_USED
             );
-            lockerLogRepository.save(lockerLog);
+        }
+
+        returnedLocker.ifPresent(existingLocker -> {
+            lockerOccupancyCache.adjustEnableCount(existingLocker.getLocation().getId(), 1L);
+            lockerStateStreamService.publish(existingLocker);
+        });
+
+        Locker locker = lockerRepository.findById(lockerId).orElseThrow(() -> new BadRequestException(
+                ErrorCode.ROW_DOES_NOT_EXIST,
+                MessageUtil.LOCKER_NOT_FOUND
+        ));
+
+        lockerLogRepository.save(LockerLog.of(
+                locker.getLockerNumber(),
+                locker.getLocation().getName(),
+                user.getEmail(),
+                user.getName(),
+                LockerLogAction.REGISTER,
+                lockerUpdateRequestDto.getMessage()
+                        .orElse(lockerUpdateRequestDto.getAction())
+        ));
+        lockerOccupancyCache.adjustEnableCount(locker.getLocation().getId(), -1L);
+        lockerStateStreamService.publish(locker);
+
+        return LockerResponseDto.of(locker, user);
+    }
+
+    private List<Locker> createLockers(LockerLocation lockerLocation, Long startLockerNumber, Long endLockerNumber) {
+        return LongStream.rangeClosed(startLockerNumber, endLockerNumber)
+                .mapToObj(lockerNumber -> Locker.of(
+                        lockerNumber,
+                        true,
+                        null,
+                        lockerLocation,
+                        null
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * 사물함과 생성 로그를 LOCKER_BULK_INSERT_BATCH_SIZE 단위로 persist 한 뒤 flush 하여 JDBC batch insert 로 저장합니다.
+     * id 는 UuidGenerator 로 애플리케이션에서 생성되므로 IDENTITY 전략과 달리 batch insert 가 가능하며,
+     * 묶음마다 영속성 컨텍스트를 비워 생성 수에 비례해 메모리와 dirty checking 비용이 늘지 않도록 합니다.
+     */
+    private void saveLockersInBatch(User user, List<Locker> lockerList) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousJdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(StaticValue.LOCKER_BULK_INSERT_BATCH_SIZE);
+
+        try {
+            for (int from = 0; from < lockerList.size(); from += StaticValue.LOCKER_BULK_INSERT_BATCH_SIZE) {
+                List<Locker> chunk = lockerList.subList(from, Math.min(from + StaticValue.LOCKER_BULK_INSERT_BATCH_SIZE, lockerList.size()));
+
+                // 같은 테이블의 insert 가 연속되어야 하나의 batch 로 묶이므로 사물함을 모두 persist 한 뒤 로그를 persist
+                chunk.forEach(entityManager::persist);
+                List<LockerLog> lockerLogList = chunk.stream()
+                        .map(locker -> LockerLog.of(
+                                locker.getLockerNumber(),
+                                locker.getLocation().getName(),
+                                user.getEmail(),
+                                user.getName(),
+                                LockerLogAction.ENABLE,
+                                MessageUtil.LOCKER_FIRST_CREATED
+                        ))
+                        .toList();
+                lockerLogList.forEach(entityManager::persist);
+
+                entityManager.flush();
+
+                // 영속성 컨텍스트가 커지지 않도록 이번 chunk 에서 만든 엔티티만 분리 (호출자가 쓰는 사용자, 위치 엔티티는 유지)
+                chunk.forEach(entityManager::detach);
+                lockerLogList.forEach(entityManager::detach);
+            }
+        } finally {
+            session.setJdbcBatchSize(previousJdbcBatchSize);
         }
     }
 }
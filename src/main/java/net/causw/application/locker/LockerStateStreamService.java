@@ -0,0 +1,96 @@
+package net.causw.application.locker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.locker.Locker;
+import net.causw.application.dto.locker.LockerStateResponseDto;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 사물함 상태 변경을 SSE 로 구독 중인 클라이언트에게 전달합니다.
+ * 변경은 커밋 이후 Redis 채널(LOCKER_STATE_CHANNEL)로 발행되어, 모든 서버가 자신에게 연결된 클라이언트에게 전송합니다.
+ * 클라이언트는 최초 한 번 사물함 목록을 조회한 뒤, 사물함 id 기준으로 변경분만 반영하면 됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LockerStateStreamService {
+
+    private static final String CONNECT_EVENT_NAME = "connect";
+    private static final String LOCKER_STATE_EVENT_NAME = "lockerState";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(StaticValue.LOCKER_STATE_SSE_TIMEOUT);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 연결 직후 이벤트가 없으면 일부 프록시/브라우저가 응답을 보류하므로 연결 이벤트를 먼저 전송
+        send(emitter, SseEmitter.event().name(CONNECT_EVENT_NAME).data(CONNECT_EVENT_NAME));
+        return emitter;
+    }
+
+    public void publish(Locker locker) {
+        publish(LockerStateResponseDto.of(locker, false));
+    }
+
+    public void publishDeleted(Locker locker) {
+        publish(LockerStateResponseDto.of(locker, true));
+    }
+
+    // Redis 채널에서 수신한 변경을 이 서버에 연결된 클라이언트에게 전송
+    public void broadcast(LockerStateResponseDto lockerState) {
+        emitters.forEach(emitter -> send(emitter, SseEmitter.event().name(LOCKER_STATE_EVENT_NAME).data(lockerState)));
+    }
+
+    // 끊어진 연결을 정리하고, 유휴 연결이 프록시에서 종료되지 않도록 주기적으로 comment 전송
+    @Scheduled(fixedDelayString = "#{T(net.causw.domain.model.util.StaticValue).LOCKER_STATE_SSE_HEARTBEAT_INTERVAL}")
+    public void heartbeat() {
+        emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void publish(LockerStateResponseDto lockerState) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    convertAndSend(lockerState);
+                }
+            });
+            return;
+        }
+
+        convertAndSend(lockerState);
+    }
+
+    private void convertAndSend(LockerStateResponseDto lockerState) {
+        try {
+            redisTemplate.convertAndSend(StaticValue.LOCKER_STATE_CHANNEL, lockerState);
+        } catch (Exception e) {
+            // 실시간 반영 실패가 사물함 처리 결과에 영향을 주지 않도록 로그만 남김
+            log.warn("Failed to publish locker state: {}", lockerState.getId(), e);
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 생성/수정/삭제/복구 시 발행되는 이벤트
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostChangedEvent {
+    private final String postId;
+    private final String boardId;
+
+    public static PostChangedEvent of(String postId, String boardId) {
+        return new PostChangedEvent(postId, boardId);
+    }
+}
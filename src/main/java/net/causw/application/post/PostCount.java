@@ -0,0 +1,34 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import net.causw.adapter.persistence.post.Post;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCount {
+    private final Long numComment;
+    private final Long numChildComment;
+    private final Long numLike;
+    private final Long numFavorite;
+
+    public static PostCount of(Long numComment, Long numChildComment, Long numLike, Long numFavorite) {
+        return new PostCount(numComment, numChildComment, numLike, numFavorite);
+    }
+
+    public static PostCount from(Post post) {
+        return new PostCount(post.getCommentCount(), post.getChildCommentCount(), post.getLikeCount(), post.getFavoriteCount());
+    }
+
+    public static PostCount empty() {
+        return new PostCount(0L, 0L, 0L, 0L);
+    }
+
+    // 댓글 + 대댓글 수
+    public Long getNumAllComment() {
+        return numComment + numChildComment;
+    }
+}
@@ -0,0 +1,21 @@
+package net.causw.application.post;
+
+import net.causw.adapter.persistence.post.Post;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록의 댓글/좋아요/즐겨찾기 수를 조회합니다.
+ * tb_post 의 비정규화 카운터만 읽으며, 원본 테이블 집계값과의 보정은 PostCountReconcileService 가 담당합니다.
+ */
+@Component
+public class PostCountLoader {
+
+    public Map<String, PostCount> load(Collection<Post> posts) {
+        return posts.stream()
+                .collect(Collectors.toMap(Post::getId, PostCount::from, (first, second) -> first));
+    }
+}
@@ -0,0 +1,54 @@
+package net.causw.application.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.domain.aop.annotation.MeasureTime;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * tb_post 의 비정규화 카운터를 원본 테이블 집계값으로 보정합니다.
+ * id 순으로 청크 단위 처리하며, 청크마다 UPDATE ... SET x = (SELECT COUNT ...) 한 번으로 갱신합니다.
+ * 호출자는 반환된 마지막 id 를 다음 호출에 넘깁니다.
+ */
+@MeasureTime
+@Component
+@RequiredArgsConstructor
+public class PostCountReconcileService {
+
+    private final PostRepository postRepository;
+
+    @Transactional
+    public ReconcileResult reconcileChunk(String lastPostId) {
+        List<String> postIdList = postRepository.findIdsByIdGreaterThan(
+                lastPostId,
+                PageRequest.of(0, StaticValue.RECONCILE_POST_COUNT_CHUNK_SIZE)
+        );
+
+        if (postIdList.isEmpty()) {
+            return ReconcileResult.of(lastPostId, 0, true);
+        }
+
+        postRepository.reconcileCounters(postIdList);
+
+        return ReconcileResult.of(
+                postIdList.get(postIdList.size() - 1),
+                postIdList.size(),
+                postIdList.size() < StaticValue.RECONCILE_POST_COUNT_CHUNK_SIZE
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class ReconcileResult {
+        private final String lastPostId;
+        private final int processedCount;
+        private final boolean isLast;
+    }
+}
@@ -0,0 +1,72 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.post.Post;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.model.enums.post.PostOrderType;
+import net.causw.domain.model.util.MessageUtil;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록과 검색 결과의 다음 페이지 위치를 나타내는 커서입니다.
+ * 최신순(LATEST)은 (작성 시각, 게시글 id), 관련도순(RELEVANCE)은 (관련도 점수, 게시글 id)를 기준으로 하며,
+ * 정렬 방식을 함께 담아 두어 검색 방식이 바뀌어도 커서를 같은 형식으로 해석할 수 있습니다.
+ * 관련도 점수는 검색 쿼리에서 소수점 6자리로 고정한 값이므로 문자열로 주고받아도 값이 달라지지 않습니다.
+ * 클라이언트에는 "정렬 방식|기준값|게시글 id" 를 Base64(URL-safe) 로 인코딩한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final PostOrderType orderType;
+    private final LocalDateTime createdAt;
+    private final BigDecimal score;
+    private final String postId;
+
+    public static PostCursor from(Post post) {
+        return new PostCursor(PostOrderType.LATEST, post.getCreatedAt(), null, post.getId());
+    }
+
+    public static PostCursor of(BigDecimal score, String postId) {
+        return new PostCursor(PostOrderType.RELEVANCE, null, score, postId);
+    }
+
+    // 커서가 없으면 첫 페이지를 의미하므로 null 을 반환합니다.
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER, 3);
+            PostOrderType orderType = PostOrderType.valueOf(values[0]);
+            if (orderType == PostOrderType.LATEST) {
+                return new PostCursor(orderType, LocalDateTime.parse(values[1]), null, values[2]);
+            }
+            return new PostCursor(orderType, null, new BigDecimal(values[1]), values[2]);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.INVALID_CURSOR);
+        }
+    }
+
+    public boolean matches(PostOrderType orderType) {
+        return this.orderType == orderType;
+    }
+
+    public String encode() {
+        String value = orderType == PostOrderType.LATEST ? createdAt.toString() : score.toPlainString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((orderType + DELIMITER + value + DELIMITER + postId).getBytes(StandardCharsets.UTF_8));
+    }
+}
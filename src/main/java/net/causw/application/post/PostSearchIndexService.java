@@ -0,0 +1,56 @@
+package net.causw.application.post;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Resource;
+import net.causw.config.batch.MigrationJobLauncher;
+import net.causw.config.database.PostSearchIndexMigration;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.batch.core.Job;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 전문 검색 인덱스(ft_post_title_content)의 생성 요청과 사용 가능 여부를 관리합니다.
+ * 인덱스 생성은 관리자가 요청할 때 createPostSearchIndexJob 으로 한 번만 실행되며,
+ * 사용 가능 여부는 검색 요청마다 information_schema 를 조회하지 않도록 POST_SEARCH_INDEX_CACHE_TTL 동안 보관합니다.
+ */
+@Service
+public class PostSearchIndexService {
+
+    private static final String CACHE_NAME = "postSearchIndexReady";
+    private static final String CACHE_KEY = "ready";
+
+    private final LoadingCache<String, Boolean> cache;
+    private final MigrationJobLauncher migrationJobLauncher;
+
+    @Resource(name = "createPostSearchIndexJob")
+    private Job createPostSearchIndexJob;
+
+    public PostSearchIndexService(
+            PostSearchIndexMigration postSearchIndexMigration,
+            MigrationJobLauncher migrationJobLauncher,
+            MeterRegistry meterRegistry
+    ) {
+        this.migrationJobLauncher = migrationJobLauncher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(StaticValue.POST_SEARCH_INDEX_CACHE_TTL, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build(key -> postSearchIndexMigration.isPostSearchIndexReady());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    public boolean isReady() {
+        return cache.get(CACHE_KEY);
+    }
+
+    // 인덱스 생성은 별도 스레드에서 진행되며, 이미 완료되었거나 실행 중이면 false 를 반환합니다.
+    public Boolean createIndex() {
+        return migrationJobLauncher.launchOnce(createPostSearchIndexJob, StaticValue.POST_SEARCH_INDEX_MIGRATION_VERSION);
+    }
+}
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.circle.Circle;
 import net.causw.adapter.persistence.circle.CircleMember;
-import net.causw.adapter.persistence.comment.ChildComment;
 import net.causw.adapter.persistence.comment.Comment;
 import net.causw.adapter.persistence.form.Form;
 import net.causw.adapter.persistence.form.FormQuestionOption;
@@ -19,13 +18,11 @@ import net.causw.adapter.persistence.repository.vote.VoteRecordRepository;
 import net.causw.adapter.persistence.uuidFile.joinEntity.PostAttachImage;
 import net.causw.adapter.persistence.vote.Vote;
 import net.causw.adapter.persistence.vote.VoteOption;
-import net.causw.adapter.persistence.vote.VoteRecord;
 import net.causw.application.dto.form.request.create.FormCreateRequestDto;
 import net.causw.application.dto.form.request.create.QuestionCreateRequestDto;
 import net.causw.application.dto.form.response.FormResponseDto;
 import net.causw.application.dto.form.response.OptionResponseDto;
 import net.causw.application.dto.form.response.QuestionResponseDto;
-import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.util.dtoMapper.*;
 import net.causw.application.dto.vote.VoteOptionResponseDto;
 import net.causw.application.dto.vote.VoteResponseDto;
@@ -36,27 +33,29 @@ import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
 import net.causw.adapter.persistence.repository.board.FavoriteBoardRepository;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
-import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
 import net.causw.adapter.persistence.repository.comment.CommentRepository;
-import net.causw.adapter.persistence.repository.comment.LikeChildCommentRepository;
-import net.causw.adapter.persistence.repository.comment.LikeCommentRepository;
+import net.causw.application.comment.CommentDetailLoader;
 import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
 import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.adapter.persistence.repository.post.PostSearchProjection;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.uuidFile.UuidFile;
-import net.causw.application.dto.comment.ChildCommentResponseDto;
 import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.post.*;
 import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.form.FormSchemaCache;
 import net.causw.application.uuidFile.UuidFileService;
+import net.causw.application.vote.VoteTally;
+import net.causw.application.vote.VoteTallyLoader;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.enums.notification.NoticeType;
+import net.causw.domain.model.enums.post.PostOrderType;
 import net.causw.domain.model.enums.circle.CircleMemberStatus;
 import net.causw.domain.model.enums.form.QuestionType;
 import net.causw.domain.model.enums.uuidFile.FileExtensionType;
@@ -66,7 +65,11 @@ import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.*;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -75,6 +78,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @MeasureTime
@@ -89,12 +93,9 @@ public class PostService {
     private final CircleMemberRepository circleMemberRepository;
     private final VoteRecordRepository voteRecordRepository;
     private final CommentRepository commentRepository;
-    private final ChildCommentRepository childCommentRepository;
     private final FavoriteBoardRepository favoriteBoardRepository;
     private final LikePostRepository likePostRepository;
     private final FavoritePostRepository favoritePostRepository;
-    private final LikeCommentRepository likeCommentRepository;
-    private final LikeChildCommentRepository likeChildCommentRepository;
     private final NotificationRepository notificationRepository;
     private final UserBoardSubscribeRepository userBoardSubscribeRepository;
     private final PageableFactory pageableFactory;
@@ -102,11 +103,19 @@ public class PostService {
     private final UuidFileService uuidFileService;
     private final PostAttachImageRepository postAttachImageRepository;
     private final FormRepository formRepository;
+    private final FormSchemaCache formSchemaCache;
+    private final PostCountLoader postCountLoader;
+    private final CommentDetailLoader commentDetailLoader;
+    private final VoteTallyLoader voteTallyLoader;
+    private final PostViewCountService postViewCountService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public PostResponseDto findPostById(User user, String postId) {
         Post post = getPost(postId);
         ValidatorBucket validatorBucket = initializeValidator(user, post.getBoard());
         validatorBucket.validate();
+        postViewCountService.recordView(post, user.getId());
         return toPostResponseDtoExtended(post, user);
     }
 
@@ -134,8 +143,7 @@ public class PostService {
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findAllByBoard_IdOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                            .map(this::toPostsResponseDto)
+                    toPostsResponseDtoPage(postRepository.findAllByBoard_IdOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)))
             );
         } else {
             // 일반 사용자는 삭제되지 않은 게시글만 조회
@@ -143,18 +151,44 @@ public class PostService {
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false)
-                            .map(this::toPostsResponseDto)
+                    toPostsResponseDtoPage(postRepository.findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false))
             );
         }
     }
 
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            User user,
+            String boardId,
+            String cursor
+    ) {
+        Set<Role> roles = user.getRoles();
+        Board board = getBoard(boardId);
+
+        ValidatorBucket validatorBucket = initializeValidator(user, board);
+        validatorBucket.validate();
+
+        boolean isCircleLeader = false;
+        if (roles.contains(Role.LEADER_CIRCLE)) {
+            isCircleLeader = getCircleLeader(board.getCircle()).getId().equals(user.getId());
+        }
+
+        // 리더, 관리자, 회장인 경우 삭제된 게시글도 포함하여 조회
+        boolean includeDeleted = isCircleLeader || roles.contains(Role.ADMIN) || roles.contains(Role.PRESIDENT);
+
+        return toBoardPostsCursorResponseDto(
+                board,
+                roles,
+                isFavorite(user.getId(), board.getId()),
+                findPostSlice(board.getId(), includeDeleted, PostCursor.decode(cursor))
+        );
+    }
+
     @Transactional(readOnly = true)
-    public BoardPostsResponseDto searchPost(
+    public BoardPostsCursorResponseDto searchPost(
             User user,
             String boardId,
             String keyword,
-            Integer pageNum
+            String cursor
     ) {
         Set<Role> roles = user.getRoles();
         Board board = getBoard(boardId);
@@ -164,27 +198,66 @@ public class PostService {
                 .consistOf(TargetIsDeletedValidator.of(board.getIsDeleted(), StaticValue.DOMAIN_BOARD))
                 .validate();
 
+        String searchKeyword = keyword.strip();
+
         boolean isCircleLeader = false;
         if (roles.contains(Role.LEADER_CIRCLE)) {
             isCircleLeader = getCircleLeader(board.getCircle()).getId().equals(user.getId());
         }
 
         // 동아리장, Admin, 학생회장인 경우 삭제된 글 포함 검색. 그외의 경우 삭제되지 않는 글만 검색
-        if (isCircleLeader || roles.contains(Role.ADMIN) || roles.contains(Role.PRESIDENT) || roles.contains(Role.VICE_PRESIDENT)) {
-            return toBoardPostsResponseDto(
-                    board,
-                    roles,
-                    isFavorite(user.getId(), board.getId()),
-                    postRepository.findByTitleAndBoard_Id(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                            .map(this::toPostsResponseDto));
-        } else {
-            return toBoardPostsResponseDto(
+        boolean includeDeleted = isCircleLeader || roles.contains(Role.ADMIN) || roles.contains(Role.PRESIDENT) || roles.contains(Role.VICE_PRESIDENT);
+
+        // ngram 토큰보다 짧은 검색어(빈 검색어 포함)나 전문 검색 인덱스 생성 전에는 제목 검색(최신순)으로 조회
+        PostOrderType orderType = searchKeyword.length() >= StaticValue.MIN_SEARCH_KEYWORD_LENGTH && postSearchIndexService.isReady()
+                ? PostOrderType.RELEVANCE
+                : PostOrderType.LATEST;
+
+        // 이전 페이지와 검색 방식이 달라졌다면(검색 인덱스 생성 완료 등) 커서를 이어서 쓸 수 없으므로 첫 페이지부터 조회
+        PostCursor searchCursor = Optional.ofNullable(PostCursor.decode(cursor))
+                .filter(postCursor -> postCursor.matches(orderType))
+                .orElse(null);
+
+        if (orderType == PostOrderType.LATEST) {
+            return toBoardPostsCursorResponseDto(
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findByTitleBoard_IdAndDeleted(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false)
-                            .map(this::toPostsResponseDto));
+                    findPostSliceByTitle(board.getId(), includeDeleted, searchKeyword, searchCursor)
+            );
         }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건을 더 조회
+        List<PostSearchProjection> searchResults = postRepository.searchByKeyword(
+                searchKeyword,
+                boardId,
+                includeDeleted,
+                searchCursor == null ? null : searchCursor.getScore(),
+                searchCursor == null ? null : searchCursor.getPostId(),
+                StaticValue.DEFAULT_POST_PAGE_SIZE + 1
+        );
+        boolean hasNext = searchResults.size() > StaticValue.DEFAULT_POST_PAGE_SIZE;
+        List<PostSearchProjection> pageResults = hasNext ? searchResults.subList(0, StaticValue.DEFAULT_POST_PAGE_SIZE) : searchResults;
+
+        // IN 조회는 순서를 보장하지 않으므로 관련도 순서대로 다시 정렬
+        Map<String, Post> postMap = postRepository.findAllById(
+                pageResults.stream().map(PostSearchProjection::getPostId).toList()
+        ).stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostsResponseDto> posts = pageResults.stream()
+                .map(searchResult -> postMap.get(searchResult.getPostId()))
+                .filter(Objects::nonNull)
+                .map(post -> toPostsResponseDto(post, PostCount.from(post)))
+                .toList();
+
+        PostSearchProjection last = pageResults.isEmpty() ? null : pageResults.get(pageResults.size() - 1);
+        return toBoardPostsCursorResponseDto(
+                board,
+                roles,
+                isFavorite(user.getId(), board.getId()),
+                posts,
+                hasNext ? PostCursor.of(last.getScore(), last.getPostId()).encode() : null,
+                hasNext
+        );
     }
 
     public BoardPostsResponseDto findAllAppNotice(User user, Integer pageNum) {
@@ -200,8 +273,24 @@ public class PostService {
                 board,
                 roles,
                 isFavorite(user.getId(), board.getId()),
-                postRepository.findAllByBoard_IdOrderByCreatedAtDesc(board.getId(), pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                        .map(this::toPostsResponseDto));
+                toPostsResponseDtoPage(postRepository.findAllByBoard_IdOrderByCreatedAtDesc(board.getId(), pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))));
+    }
+
+    public BoardPostsCursorResponseDto findAllAppNoticeByCursor(User user, String cursor) {
+        Set<Role> roles = user.getRoles();
+        Board board = boardRepository.findAppNotice().orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        MessageUtil.BOARD_NOT_FOUND
+                )
+        );
+
+        return toBoardPostsCursorResponseDto(
+                board,
+                roles,
+                isFavorite(user.getId(), board.getId()),
+                findPostSlice(board.getId(), true, PostCursor.decode(cursor))
+        );
     }
 
     @Transactional
@@ -294,7 +383,10 @@ public class PostService {
             }
         }
 
-        return toPostCreateResponseDto(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), board.getId()));
+
+        return toPostCreateResponseDto(savedPost);
     }
 
     @Transactional
@@ -374,7 +466,10 @@ public class PostService {
                 .consistOf(ConstraintValidator.of(post, this.validator))
                 .validate();
 
-        return toPostCreateResponseDto(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), board.getId()));
+
+        return toPostCreateResponseDto(savedPost);
     }
 
 
@@ -435,6 +530,8 @@ public class PostService {
         validatorBucket.validate();
 
         post.setIsDeleted(true);
+        evictFormSchema(post);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getId(), post.getBoard().getId()));
     }
 
     @Transactional
@@ -485,6 +582,7 @@ public class PostService {
 
         postAttachImageRepository.deleteAll(post.getPostAttachImageList());
 
+        evictFormSchema(post);
         formRepository.delete(post.getForm());
 
         post.update(
@@ -493,6 +591,7 @@ public class PostService {
                 null,
                 postAttachImageList
         );
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getId(), post.getBoard().getId()));
 
         return toPostResponseDtoExtended(post, updater);
     }
@@ -545,6 +644,7 @@ public class PostService {
 
         postAttachImageRepository.deleteAll(post.getPostAttachImageList());
 
+        evictFormSchema(post);
         formRepository.delete(post.getForm());
 
         Form form = generateForm(postUpdateWithFormRequestDto.getFormCreateRequestDto());
@@ -555,6 +655,7 @@ public class PostService {
                 form,
                 postAttachImageList
         );
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getId(), post.getBoard().getId()));
     }
 
     @Transactional
@@ -623,6 +724,7 @@ public class PostService {
                 .validate();
 
         post.setIsDeleted(false);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getId(), post.getBoard().getId()));
     }
 
     @Transactional
@@ -640,6 +742,7 @@ public class PostService {
 
         LikePost likePost = LikePost.of(post, user);
         likePostRepository.save(likePost);
+        postRepository.addLikeCount(post.getId(), 1L);
     }
 
     @Transactional
@@ -664,6 +767,7 @@ public class PostService {
         }
 
         favoritePostRepository.save(favoritePost);
+        postRepository.addFavoriteCount(post.getId(), 1L);
     }
 
 
@@ -684,6 +788,7 @@ public class PostService {
         }
 
         favoritePostRepository.save(favoritePost);
+        postRepository.addFavoriteCount(post.getId(), -1L);
     }
 
     private Boolean isPostAlreadyLike(User user, String postId) {
@@ -722,6 +827,13 @@ public class PostService {
         return validatorBucket;
     }
 
+    // 게시글의 신청서가 삭제되거나 교체되면 캐시된 신청서 구조도 제거
+    private void evictFormSchema(Post post) {
+        if (post.getForm() != null) {
+            formSchemaCache.evict(post.getForm().getId());
+        }
+    }
+
     private Form generateForm(FormCreateRequestDto formCreateRequestDto) {
         validFormInfo(formCreateRequestDto);
 
@@ -864,7 +976,73 @@ public class PostService {
         );
     }
 
-    private PostsResponseDto toPostsResponseDto(Post post) {
+    private Slice<Post> findPostSlice(String boardId, boolean includeDeleted, PostCursor cursor) {
+        Pageable pageable = PageRequest.of(0, StaticValue.DEFAULT_POST_PAGE_SIZE);
+        if (cursor == null) {
+            return postRepository.findSliceByBoardId(boardId, includeDeleted, pageable);
+        }
+        // 게시글 목록은 최신순으로만 조회하므로 검색 결과(관련도순) 커서는 사용할 수 없음
+        if (!cursor.matches(PostOrderType.LATEST)) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.INVALID_CURSOR);
+        }
+        return postRepository.findSliceByBoardIdAfterCursor(boardId, includeDeleted, cursor.getCreatedAt(), cursor.getPostId(), pageable);
+    }
+
+    private Slice<Post> findPostSliceByTitle(String boardId, boolean includeDeleted, String keyword, PostCursor cursor) {
+        Pageable pageable = PageRequest.of(0, StaticValue.DEFAULT_POST_PAGE_SIZE);
+        if (cursor == null) {
+            return postRepository.findSliceByBoardIdAndTitle(boardId, includeDeleted, keyword, pageable);
+        }
+        return postRepository.findSliceByBoardIdAndTitleAfterCursor(boardId, includeDeleted, keyword, cursor.getCreatedAt(), cursor.getPostId(), pageable);
+    }
+
+    private BoardPostsCursorResponseDto toBoardPostsCursorResponseDto(
+            Board board,
+            Set<Role> userRoles,
+            boolean isFavorite,
+            Slice<Post> posts
+    ) {
+        List<Post> postList = posts.getContent();
+        return toBoardPostsCursorResponseDto(
+                board,
+                userRoles,
+                isFavorite,
+                postList.stream()
+                        .map(post -> toPostsResponseDto(post, PostCount.from(post)))
+                        .toList(),
+                posts.hasNext() ? PostCursor.from(postList.get(postList.size() - 1)).encode() : null,
+                posts.hasNext()
+        );
+    }
+
+    private BoardPostsCursorResponseDto toBoardPostsCursorResponseDto(
+            Board board,
+            Set<Role> userRoles,
+            boolean isFavorite,
+            List<PostsResponseDto> posts,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        List<String> roles = Arrays.asList(board.getCreateRoles().split(","));
+        Boolean writable = userRoles.stream()
+                .map(Role::getValue)
+                .anyMatch(roles::contains);
+        return PostDtoMapper.INSTANCE.toBoardPostsCursorResponseDto(
+                board,
+                writable,
+                isFavorite,
+                posts,
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private Page<PostsResponseDto> toPostsResponseDtoPage(Page<Post> posts) {
+        Map<String, PostCount> postCounts = postCountLoader.load(posts.getContent());
+        return posts.map(post -> toPostsResponseDto(post, postCounts.getOrDefault(post.getId(), PostCount.empty())));
+    }
+
+    private PostsResponseDto toPostsResponseDto(Post post, PostCount postCount) {
         PostAttachImage postThumbnailFile = (post.getPostAttachImageList() == null || post.getPostAttachImageList().isEmpty()) ?
                 null :
                 post.getPostAttachImageList()
@@ -876,9 +1054,9 @@ public class PostService {
 
         return PostDtoMapper.INSTANCE.toPostsResponseDto(
                 post,
-                postRepository.countAllCommentByPost_Id(post.getId()),
-                getNumOfPostLikes(post),
-                getNumOfPostFavorites(post),
+                postCount.getNumAllComment(),
+                postCount.getNumLike(),
+                postCount.getNumFavorite(),
                 postThumbnailFile,
                 StatusUtil.isPostVote(post),
                 StatusUtil.isPostForm(post)
@@ -886,17 +1064,19 @@ public class PostService {
     }
 
     private PostResponseDto toPostResponseDtoExtended(Post post, User user) {
+        PostCount postCount = PostCount.from(post);
+        Boolean isPostHasComment = isPostHasComment(post.getId());
         return PostDtoMapper.INSTANCE.toPostResponseDtoExtended(
-                postRepository.save(post),
+                post,
                 findCommentsByPostIdByPage(user, post, 0),
-                postRepository.countAllCommentByPost_Id(post.getId()),
-                getNumOfPostLikes(post),
-                getNumOfPostFavorites(post),
+                postCount.getNumAllComment(),
+                postCount.getNumLike(),
+                postCount.getNumFavorite(),
                 isPostAlreadyLike(user, post.getId()),
                 isPostAlreadyFavorite(user, post.getId()),
                 StatusUtil.isPostOwner(post,user),
-                StatusUtil.isUpdatable(post, user, isPostHasComment(post.getId())),
-                StatusUtil.isDeletable(post, user, post.getBoard(), isPostHasComment(post.getId())),
+                StatusUtil.isUpdatable(post, user, isPostHasComment),
+                StatusUtil.isDeletable(post, user, post.getBoard(), isPostHasComment),
                 StatusUtil.isPostForm(post) ? toFormResponseDto(post.getForm()) : null,
                 StatusUtil.isPostVote(post) ? toVoteResponseDto(post.getVote(), user) : null,
                 StatusUtil.isPostVote(post),
@@ -905,53 +1085,12 @@ public class PostService {
     }
 
     private Page<CommentResponseDto> findCommentsByPostIdByPage(User user, Post post, Integer pageNum) {
-        return commentRepository.findByPost_IdOrderByCreatedAt(
+        Page<Comment> comments = commentRepository.findByPost_IdOrderByCreatedAt(
                 post.getId(),
                 pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
-            ).map(comment -> toCommentResponseDto(comment, user, post.getBoard()));
-
-    }
-
-    private CommentResponseDto toCommentResponseDto(Comment comment, User user, Board board) {
-        return CommentDtoMapper.INSTANCE.toCommentResponseDto(
-                comment,
-                childCommentRepository.countByParentComment_IdAndIsDeletedIsFalse(comment.getId()),
-                getNumOfCommentLikes(comment),
-                isCommentAlreadyLike(user, comment.getId()),
-                StatusUtil.isCommentOwner(comment, user),
-                comment.getChildCommentList().stream()
-                        .map(childComment -> toChildCommentResponseDto(childComment, user, board))
-                        .collect(Collectors.toList()),
-                StatusUtil.isUpdatable(comment, user),
-                StatusUtil.isDeletable(comment, user, board)
         );
-    }
+        return commentDetailLoader.load(comments, user, post.getBoard());
 
-    private ChildCommentResponseDto toChildCommentResponseDto(ChildComment childComment, User user, Board board) {
-        return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
-                childComment,
-                getNumOfChildCommentLikes(childComment),
-                isChildCommentAlreadyLike(user, childComment.getId()),
-                StatusUtil.isChildCommentOwner(childComment, user),
-                StatusUtil.isUpdatable(childComment, user),
-                StatusUtil.isDeletable(childComment, user, board)
-        );
-    }
-
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
-    }
-
-    private Long getNumOfCommentLikes(Comment comment){
-        return likeCommentRepository.countByCommentId(comment.getId());
-    }
-
-    private Long getNumOfChildCommentLikes(ChildComment childComment) {
-        return likeChildCommentRepository.countByChildCommentId(childComment.getId());
     }
 
     private Boolean isFavorite(String userId, String boardId) {
@@ -965,14 +1104,6 @@ public class PostService {
         return commentRepository.existsByPostIdAndIsDeletedFalse(postId);
     }
 
-    private Boolean isCommentAlreadyLike(User user, String commentId) {
-        return likeCommentRepository.existsByCommentIdAndUserId(commentId, user.getId());
-    }
-
-    private Boolean isChildCommentAlreadyLike(User user, String childCommentId) {
-        return likeChildCommentRepository.existsByChildCommentIdAndUserId(childCommentId, user.getId());
-    }
-
     private Post getPost(String postId) {
         return postRepository.findById(postId).orElseThrow(
                 () -> new BadRequestException(
@@ -1052,34 +1183,23 @@ public class PostService {
     }
 
     private VoteResponseDto toVoteResponseDto(Vote vote, User user) {
+        VoteTally voteTally = voteTallyLoader.load(vote);
         List<VoteOptionResponseDto> voteOptionResponseDtoList = vote.getVoteOptions().stream()
                 .sorted(Comparator.comparing(VoteOption::getCreatedAt))
-                .map(this::tovoteOptionResponseDto)
+                .map(voteOption -> VoteDtoMapper.INSTANCE.toVoteOptionResponseDto(
+                        voteOption,
+                        voteTally.getVoteCount(voteOption.getId())
+                ))
                 .collect(Collectors.toList());
 
-        Set<String> uniqueUserIds = voteOptionResponseDtoList.stream()
-                .flatMap(voteOptionResponseDto -> voteOptionResponseDto.getVoteUsers().stream())
-                .map(UserResponseDto::getId)
-                .collect(Collectors.toSet());
-        Integer totalUserCount = uniqueUserIds.size();
         return VoteDtoMapper.INSTANCE.toVoteResponseDto(
                 vote,
                 voteOptionResponseDtoList
                 , StatusUtil.isVoteOwner(vote, user)
                 , vote.isEnd()
                 , voteRecordRepository.existsByVoteOption_VoteAndUser(vote, user)
-                , voteOptionResponseDtoList.stream()
-                        .mapToInt(VoteOptionResponseDto::getVoteCount)
-                        .sum()
-                , totalUserCount);
-    }
-
-    private VoteOptionResponseDto tovoteOptionResponseDto(VoteOption voteOption) {
-        List<VoteRecord> voteRecords = voteRecordRepository.findAllByVoteOption(voteOption);
-        List<UserResponseDto> userResponseDtos = voteRecords.stream()
-                .map(voteRecord -> UserDtoMapper.INSTANCE.toUserResponseDto(voteRecord.getUser(), null, null))
-                .collect(Collectors.toList());
-        return VoteDtoMapper.INSTANCE.toVoteOptionResponseDto(voteOption, voteRecords.size(), userResponseDtos);
+                , voteTally.getTotalVoteCount()
+                , voteTally.getTotalUserCount());
     }
 
 }
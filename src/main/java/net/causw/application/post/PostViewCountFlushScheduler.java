@@ -0,0 +1,38 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 조회가 발생한 게시글의 조회수를 주기적으로 DB 에 반영합니다.
+ * 게시글 id 는 Redis SPOP 으로 꺼내므로 여러 서버에서 동시에 실행되어도 같은 게시글을 나누어 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushScheduler {
+
+    private final PostViewCountService postViewCountService;
+    private final RedisUtils redisUtils;
+
+    @Scheduled(fixedDelayString = "#{T(net.causw.domain.model.util.StaticValue).POST_VIEW_COUNT_FLUSH_INTERVAL}")
+    public void flushViewCounts() {
+        List<String> postIds;
+        while (!(postIds = redisUtils.popUpdatedPostIds(StaticValue.POST_VIEW_COUNT_FLUSH_CHUNK_SIZE)).isEmpty()) {
+            try {
+                postViewCountService.updateViewCounts(postIds);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 게시글은 다음 주기에 다시 처리
+                redisUtils.addUpdatedPostIds(postIds);
+                log.error("Post view count flush failed: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+}
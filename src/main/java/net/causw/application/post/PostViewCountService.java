@@ -0,0 +1,35 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.post.Post;
+import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.domain.aop.annotation.MeasureTime;
+import net.causw.domain.model.util.RedisUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 조회수를 Redis HyperLogLog 에 사용자 단위로 누적하고, 변경된 게시글만 모아 DB 에 반영합니다.
+ * 조회 요청은 Redis 에만 기록하므로 게시글 조회 시 tb_post 에 쓰기가 발생하지 않습니다.
+ */
+@MeasureTime
+@Component
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private final PostRepository postRepository;
+    private final RedisUtils redisUtils;
+
+    // HyperLogLog 가 없으면(처음 조회되었거나 만료된 경우) 현재 DB 조회수를 기준값으로 삼아 이어서 집계합니다.
+    public void recordView(Post post, String userId) {
+        redisUtils.addPostView(post.getId(), userId, post.getViewCount());
+    }
+
+    // Redis 의 누적 조회수(기준값 + 고유 사용자 수)로 덮어쓰므로 같은 게시글을 여러 번 반영해도 결과가 같습니다.
+    @Transactional
+    public void updateViewCounts(List<String> postIds) {
+        postIds.forEach(postId -> postRepository.updateViewCount(postId, redisUtils.getPostViewCount(postId)));
+    }
+}
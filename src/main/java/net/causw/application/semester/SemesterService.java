@@ -12,6 +12,7 @@ import net.causw.adapter.persistence.userCouncilFee.UserCouncilFee;
 import net.causw.application.dto.semester.CreateSemesterRequestDto;
 import net.causw.application.dto.semester.CurrentSemesterResponseDto;
 import net.causw.application.dto.util.dtoMapper.SemesterDtoMapper;
+import net.causw.config.security.JwtAuthenticationCache;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -32,6 +33,7 @@ public class SemesterService {
     private final UserRepository userRepository;
     private final UserCouncilFeeRepository userCouncilFeeRepository;
     private final CouncilFeeFakeUserRepository councilFeeFakeUserRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     public CurrentSemesterResponseDto getCurrentSemester() {
         List<Semester> currentSemesterList = semesterRepository.findAllByIsCurrent(true);
@@ -102,6 +104,7 @@ public class SemesterService {
                 .toList();
 
         userRepository.saveAll(userList);
+        jwtAuthenticationCache.evictAll();
 
         // 동문네트워크 서비스 미가입 FakeUser 중, 현재 등록 완료 학기 +1
         List<CouncilFeeFakeUser> councilFeeFakeUserList = userCouncilFeeRepository.findAllByIsJoinedService(false)
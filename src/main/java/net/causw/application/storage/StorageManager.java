@@ -1,9 +1,16 @@
 package net.causw.application.storage;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import net.causw.domain.aop.annotation.MeasureTime;
@@ -11,12 +18,16 @@ import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.model.enums.uuidFile.FilePath;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 @MeasureTime
 @Component
@@ -48,6 +59,49 @@ public class StorageManager {
         return fileInfoStringMap;
     }
 
+    // 개인정보가 포함될 수 있는 파일은 비공개로 업로드하고, 다운로드는 만료 시간이 있는 Presigned URL 로만 허용
+    protected void uploadPrivateFile(File file, String fileKey, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        try {
+            amazonS3Client.putObject(new PutObjectRequest(bucketName, fileKey, file)
+                    .withMetadata(objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.Private));
+        } catch (Exception e) {
+            throw new InternalServerException(ErrorCode.FILE_UPLOAD_FAIL, MessageUtil.FILE_UPLOAD_FAIL + e.getMessage());
+        }
+    }
+
+    protected String generatePresignedUrl(String fileKey, String downloadFileName, Long expiredTime) {
+        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucketName, fileKey)
+                .withMethod(HttpMethod.GET)
+                .withExpiration(new Date(System.currentTimeMillis() + expiredTime))
+                .withResponseHeaders(new ResponseHeaderOverrides().withContentDisposition(
+                        "attachment; filename*=UTF-8''" + URLEncoder.encode(downloadFileName, StandardCharsets.UTF_8).replace("+", "%20")
+                ));
+        return amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest).toString();
+    }
+
+    // prefix 아래에서 마지막 수정 시각이 expiredBefore 이전인 file key 목록을 반환
+    protected List<String> findFileKeysModifiedBefore(String prefix, Date expiredBefore) {
+        List<String> fileKeys = new ArrayList<>();
+        ListObjectsV2Request listObjectsRequest = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix);
+
+        ListObjectsV2Result listObjectsResult;
+        do {
+            listObjectsResult = amazonS3Client.listObjectsV2(listObjectsRequest);
+            listObjectsResult.getObjectSummaries().stream()
+                    .filter(objectSummary -> objectSummary.getLastModified().before(expiredBefore))
+                    .forEach(objectSummary -> fileKeys.add(objectSummary.getKey()));
+            listObjectsRequest.setContinuationToken(listObjectsResult.getNextContinuationToken());
+        } while (listObjectsResult.isTruncated());
+
+        return fileKeys;
+    }
+
     protected void deleteFile(String fileKey) {
         try {
             amazonS3Client.deleteObject(bucketName, fileKey);
@@ -56,6 +110,28 @@ public class StorageManager {
         }
     }
 
+    // DeleteObjects 요청 한 번에 최대 S3_DELETE_OBJECTS_MAX_KEYS 개씩 삭제하고, 삭제에 실패한 file key 를 반환
+    protected List<String> deleteFiles(List<String> fileKeys) {
+        List<String> failedFileKeys = new ArrayList<>();
+
+        for (int from = 0; from < fileKeys.size(); from += StaticValue.S3_DELETE_OBJECTS_MAX_KEYS) {
+            List<String> chunk = fileKeys.subList(from, Math.min(from + StaticValue.S3_DELETE_OBJECTS_MAX_KEYS, fileKeys.size()));
+            DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+                    .withKeys(chunk.toArray(String[]::new))
+                    .withQuiet(true);
+
+            try {
+                amazonS3Client.deleteObjects(deleteObjectsRequest);
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedFileKeys.add(error.getKey()));
+            } catch (Exception e) {
+                failedFileKeys.addAll(chunk);
+            }
+        }
+
+        return failedFileKeys;
+    }
+
     private String buildFileKey(String uuid, String rawFileName, String extension, FilePath filePath) {
         return filePath.getDirectory() + "/" + rawFileName + "_" + uuid + "." + extension;
     }
@@ -14,8 +14,14 @@ import net.causw.adapter.persistence.uuidFile.joinEntity.UserAcademicRecordAppli
 import net.causw.adapter.persistence.uuidFile.joinEntity.UserAdmissionAttachImage;
 import net.causw.adapter.persistence.uuidFile.joinEntity.UserProfileImage;
 import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.excel.ChunkedEntityStreamFactory;
 import net.causw.application.excel.UserExcelService;
+import net.causw.application.locker.LockerOccupancyCache;
+import net.causw.application.locker.LockerStateStreamService;
 import net.causw.application.pageable.PageableFactory;
+import net.causw.application.post.PostCount;
+import net.causw.application.post.PostCountLoader;
+import net.causw.adapter.persistence.post.FavoritePost;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
@@ -25,7 +31,6 @@ import net.causw.adapter.persistence.repository.comment.CommentRepository;
 import net.causw.adapter.persistence.repository.locker.LockerLogRepository;
 import net.causw.adapter.persistence.repository.locker.LockerRepository;
 import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
-import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.user.UserAdmissionLogRepository;
 import net.causw.adapter.persistence.repository.user.UserAdmissionRepository;
@@ -37,12 +42,14 @@ import net.causw.adapter.persistence.uuidFile.UuidFile;
 import net.causw.application.dto.duplicate.DuplicatedCheckResponseDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.circle.CircleResponseDto;
+import net.causw.application.dto.post.PostsResponseDto;
 import net.causw.application.dto.user.*;
 import net.causw.application.dto.util.dtoMapper.BoardDtoMapper;
 import net.causw.application.dto.util.dtoMapper.CircleDtoMapper;
 import net.causw.application.dto.util.dtoMapper.PostDtoMapper;
 import net.causw.application.dto.util.dtoMapper.UserDtoMapper;
 import net.causw.application.uuidFile.UuidFileService;
+import net.causw.config.security.JwtAuthenticationCache;
 import net.causw.config.security.JwtTokenProvider;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
@@ -88,12 +95,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 @MeasureTime
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final UuidFileService uuidFileService;
     private final GoogleMailSender googleMailSender;
     private final PasswordGenerator passwordGenerator;
@@ -110,13 +120,16 @@ public class UserService {
     private final UserAdmissionRepository userAdmissionRepository;
     private final RedisUtils redisUtils;
     private final LockerRepository lockerRepository;
+    private final LockerOccupancyCache lockerOccupancyCache;
+    private final LockerStateStreamService lockerStateStreamService;
     private final LockerLogRepository lockerLogRepository;
     private final UserAdmissionLogRepository userAdmissionLogRepository;
     private final BoardRepository boardRepository;
     private final FavoritePostRepository favoritePostRepository;
-    private final LikePostRepository likePostRepository;
+    private final PostCountLoader postCountLoader;
     private final UserProfileImageRepository userProfileImageRepository;
     private final UserExcelService userExcelService;
+    private final ChunkedEntityStreamFactory chunkedEntityStreamFactory;
     private final UserAcademicRecordApplicationRepository userAcademicRecordApplicationRepository;
     private final UserAcademicRecordApplicationAttachImageRepository userAcademicRecordApplicationAttachImageRepository;
 
@@ -230,16 +243,9 @@ public class UserService {
 
         return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
                 requestUser,
-                this.postRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)
-                ).map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                        post,
-                        getNumOfComment(post),
-                        getNumOfPostLikes(post),
-                        getNumOfPostFavorites(post),
-                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                        StatusUtil.isPostVote(post),
-                        StatusUtil.isPostForm(post)
-                ))
+                toPostsResponseDtoPage(
+                        this.postRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
+                )
         );
     }
 
@@ -254,16 +260,10 @@ public class UserService {
 
         return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
                 requestUser,
-                this.favoritePostRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                        .map(favoritePost -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                                favoritePost.getPost(),
-                                getNumOfComment(favoritePost.getPost()),
-                                getNumOfPostLikes(favoritePost.getPost()),
-                                getNumOfPostFavorites(favoritePost.getPost()),
-                                !favoritePost.getPost().getPostAttachImageList().isEmpty() ? favoritePost.getPost().getPostAttachImageList().get(0) : null,
-                                StatusUtil.isPostVote(favoritePost.getPost()),
-                                StatusUtil.isPostForm(favoritePost.getPost())
-                        ))
+                toPostsResponseDtoPage(
+                        this.favoritePostRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
+                                .map(FavoritePost::getPost)
+                )
         );
     }
 
@@ -293,15 +293,7 @@ public class UserService {
 
         return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
                 requestUser,
-                combinedPostsPage.map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                        post,
-                        getNumOfComment(post),
-                        getNumOfPostLikes(post),
-                        getNumOfPostFavorites(post),
-                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                        StatusUtil.isPostVote(post),
-                        StatusUtil.isPostForm(post)
-                ))
+                toPostsResponseDtoPage(combinedPostsPage)
         );
     }
 
@@ -717,6 +709,7 @@ public class UserService {
         srcUser.update(userUpdateRequestDto.getNickname(), userProfileImage);
 
         User updatedUser = userRepository.save(srcUser);
+        jwtAuthenticationCache.evictUser(updatedUser.getId());
 
         return UserDtoMapper.INSTANCE.toUserResponseDto(updatedUser, null, null);
     }
@@ -964,6 +957,7 @@ public class UserService {
         }
 
         targetUser.setRoles(roles);
+        jwtAuthenticationCache.evictUser(targetUser.getId());
 
         return this.userRepository.save(targetUser);
     }
@@ -972,6 +966,7 @@ public class UserService {
         Set<Role> roles = targetUser.getRoles();
         roles.add(targetRole);
         targetUser.setRoles(roles);
+        jwtAuthenticationCache.evictUser(targetUser.getId());
         return this.userRepository.save(targetUser);
     }
 
@@ -995,6 +990,7 @@ public class UserService {
         }
 
         roles.add(newRole);
+        jwtAuthenticationCache.evictUser(targetUser.getId());
         return this.userRepository.save(targetUser);
     }
 
@@ -1045,6 +1041,8 @@ public class UserService {
                 .ifPresent(locker -> {
                     locker.returnLocker();
                     this.lockerRepository.save(locker);
+                    this.lockerOccupancyCache.adjustEnableCount(locker.getLocation().getId(), 1L);
+                    this.lockerStateStreamService.publish(locker);
 
                     LockerLog lockerLog = LockerLog.of(
                             locker.getLockerNumber(),
@@ -1081,6 +1079,7 @@ public class UserService {
             userAcademicRecordApplicationRepository.deleteAll(userAcademicRecordApplicationList);
         }
         this.userRepository.delete(deleteUser);
+        jwtAuthenticationCache.evictUser(deleteUser.getId());
 
         return UserDtoMapper.INSTANCE.toUserResponseDto(deleteUser, null, null);
     }
@@ -1099,6 +1098,8 @@ public class UserService {
                 .ifPresent(locker -> {
                     locker.returnLocker();
                     this.lockerRepository.save(locker);
+                    this.lockerOccupancyCache.adjustEnableCount(locker.getLocation().getId(), 1L);
+                    this.lockerStateStreamService.publish(locker);
 
                     LockerLog lockerLog = LockerLog.of(
                             locker.getLockerNumber(),
@@ -1138,6 +1139,7 @@ public class UserService {
                 .filter(user -> user.getUpdatedAt().isBefore(dueDate))
                 .forEach(user -> {
                     user.delete();
+                    jwtAuthenticationCache.evictUser(user.getId());
                     userRepository.save(user);
                 });
     }
@@ -1155,6 +1157,7 @@ public class UserService {
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setState(state);
+                    jwtAuthenticationCache.evictUser(srcUser.getId());
 
                     this.userRepository.save(srcUser);
                     return srcUser;
@@ -1185,6 +1188,8 @@ public class UserService {
                 .ifPresent(locker -> {
                     locker.returnLocker();
                     this.lockerRepository.save(locker);
+                    this.lockerOccupancyCache.adjustEnableCount(locker.getLocation().getId(), 1L);
+                    this.lockerStateStreamService.publish(locker);
 
                     LockerLog lockerLog = LockerLog.of(
                             locker.getLockerNumber(),
@@ -1492,6 +1497,7 @@ public class UserService {
 
     public UserSignOutResponseDto signOut(UserSignOutRequestDto userSignOutRequestDto){
         redisUtils.addToBlacklist(userSignOutRequestDto.getAccessToken());
+        jwtAuthenticationCache.evictToken(userSignOutRequestDto.getAccessToken());
         redisUtils.deleteRefreshTokenData(userSignOutRequestDto.getRefreshToken());
 
         return UserDtoMapper.INSTANCE.toUserSignOutResponseDto("로그아웃 성공");
@@ -1557,75 +1563,30 @@ public class UserService {
                 "사용자 정보 최종 수정일"
         );
 
-        LinkedHashMap<String, List<UserResponseDto>> sheetDataMap = new LinkedHashMap<>();
-
-        List<UserResponseDto> activeUserList = userRepository.findAllByState(UserState.ACTIVE)
-                .stream()
-                .map(user -> {
-                            if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
-                                List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
-                                List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
-                            } else {
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
-                            }
-                }).toList();
-
-        List<UserResponseDto> inactiveUserList = userRepository.findAllByState(UserState.INACTIVE)
-                .stream()
-                .map(user -> {
-                            if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
-                                List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
-                                List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
-                            } else {
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
-                            }
-                }).toList();
-
-        List<UserResponseDto> awaitUserList = userRepository.findAllByState(UserState.AWAIT)
-                .stream()
-                .map(user -> {
-                            if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
-                                List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
-                                List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
-                            } else {
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
-                            }
-                }).toList();
-
-        List<UserResponseDto> rejectUserList = userRepository.findAllByState(UserState.REJECT)
-                .stream()
-                .map(user -> {
-                    if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
-                        List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
-                        List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
-                        return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
-                    } else {
-                        return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
-                    }
-                }).toList();
-
-        List<UserResponseDto> dropUserList = userRepository.findAllByState(UserState.DROP)
-                .stream()
-                .map(user -> {
-                            if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
-                                List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
-                                List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
-                            } else {
-                                return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
-                            }
-                }).toList();
+        // 상태별 사용자를 List 로 올리지 않고 청크 단위로 조회하여 한 행씩 작성
+        LinkedHashMap<String, Supplier<Stream<UserResponseDto>>> sheetDataMap = new LinkedHashMap<>();
+        sheetDataMap.put("활성 유저", streamUserResponseDtoByState(UserState.ACTIVE));
+        sheetDataMap.put("가입 대기 유저", streamUserResponseDtoByState(UserState.AWAIT));
+        sheetDataMap.put("가입 거절 유저", streamUserResponseDtoByState(UserState.REJECT));
+        sheetDataMap.put("탈퇴 유저", streamUserResponseDtoByState(UserState.INACTIVE));
+        sheetDataMap.put("추방 유저", streamUserResponseDtoByState(UserState.DROP));
 
-        sheetDataMap.put("활성 유저", activeUserList);
-        sheetDataMap.put("가입 대기 유저", awaitUserList);
-        sheetDataMap.put("가입 거절 유저", rejectUserList);
-        sheetDataMap.put("탈퇴 유저", inactiveUserList);
-        sheetDataMap.put("추방 유저", dropUserList);
+        userExcelService.generateStreamingExcel(response, fileName, headerStringList, sheetDataMap);
+    }
 
-        userExcelService.generateExcel(response, fileName, headerStringList, sheetDataMap);
+    private Supplier<Stream<UserResponseDto>> streamUserResponseDtoByState(UserState state) {
+        return () -> chunkedEntityStreamFactory.stream(
+                lastId -> userRepository.findByStateAndIdGreaterThanOrderByIdAsc(state, lastId, PageRequest.of(0, StaticValue.EXCEL_EXPORT_CHUNK_SIZE)),
+                User::getId
+        ).map(user -> {
+            if (user.getRoles().contains(Role.LEADER_CIRCLE)) {
+                List<String> circleIdIfLeader = getCircleIdsIfLeader(user);
+                List<String> circleNameIfLeader = getCircleNamesIfLeader(user);
+                return UserDtoMapper.INSTANCE.toUserResponseDto(user, circleIdIfLeader, circleNameIfLeader);
+            } else {
+                return UserDtoMapper.INSTANCE.toUserResponseDto(user, null, null);
+            }
+        });
     }
 
     @Transactional
@@ -1633,6 +1594,7 @@ public class UserService {
         user = this.getUser(user.getId());
 
         user.setIsV2(true);
+        jwtAuthenticationCache.evictUser(user.getId());
 
         Set<Role> roles = user.getRoles();
 
@@ -1706,16 +1668,20 @@ public class UserService {
         );
     }
 
-    private Long getNumOfComment(Post post) {
-        return this.postRepository.countAllCommentByPost_Id(post.getId());
-    }
-
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
+    private Page<PostsResponseDto> toPostsResponseDtoPage(Page<Post> posts) {
+        Map<String, PostCount> postCounts = postCountLoader.load(posts.getContent());
+        return posts.map(post -> {
+            PostCount postCount = postCounts.getOrDefault(post.getId(), PostCount.empty());
+            return PostDtoMapper.INSTANCE.toPostsResponseDto(
+                    post,
+                    postCount.getNumAllComment(),
+                    postCount.getNumLike(),
+                    postCount.getNumFavorite(),
+                    !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
+                    StatusUtil.isPostVote(post),
+                    StatusUtil.isPostForm(post)
+            );
+        });
     }
 
 }
@@ -17,6 +17,7 @@ import net.causw.application.dto.util.dtoMapper.SemesterDtoMapper;
 import net.causw.application.dto.util.dtoMapper.UserAcademicRecordDtoMapper;
 import net.causw.application.excel.UserAcademicRecordExcelService;
 import net.causw.application.uuidFile.UuidFileService;
+import net.causw.config.security.JwtAuthenticationCache;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -47,6 +48,7 @@ public class UserAcademicRecordApplicationService {
     private final UuidFileService uuidFileService;
     private final SemesterRepository semesterRepository;
     private final UserAcademicRecordExcelService userAcademicRecordExcelService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     public void exportUserAcademicRecordListToExcel(HttpServletResponse response) {
         String fileName = "학적상태명단";
@@ -110,6 +112,7 @@ public class UserAcademicRecordApplicationService {
         user.setAcademicStatusNote(note);
 
         userRepository.save(user);
+        jwtAuthenticationCache.evictUser(user.getId());
 
         return getUserAcademicRecordInfoResponseDto(user);
     }
@@ -136,6 +139,7 @@ public class UserAcademicRecordApplicationService {
         User targetUser = getUser(updateUserAcademicStatusRequestDto.getTargetUserId());
 
         targetUser.setAcademicStatus(updateUserAcademicStatusRequestDto.getTargetAcademicStatus());
+        jwtAuthenticationCache.evictUser(targetUser.getId());
 
         UserAcademicRecordLog userAcademicRecordLog = UserAcademicRecordLog.create(
                 controllerUser,
@@ -167,6 +171,7 @@ public class UserAcademicRecordApplicationService {
 
         if (updateUserAcademicRecordApplicationStateRequestDto.getTargetAcademicRecordRequestStatus().equals(AcademicRecordRequestStatus.ACCEPT)) {
             targetUser.setAcademicStatus(userAcademicRecordApplication.getTargetAcademicStatus());
+            jwtAuthenticationCache.evictUser(targetUser.getId());
 
             if (userAcademicRecordApplication.getTargetAcademicStatus().equals(AcademicStatus.ENROLLED)) {
                 targetUser.setCurrentCompletedSemester(userAcademicRecordApplication.getTargetCompletedSemester());
@@ -247,6 +252,7 @@ public class UserAcademicRecordApplicationService {
 
             // 대상 사용자의 변경 타겟 학적 상태를 변경
             user.setAcademicStatus(createUserAcademicRecordApplicationRequestDto.getTargetAcademicStatus());
+            jwtAuthenticationCache.evictUser(user.getId());
 
             userRepository.save(user);
         }
@@ -260,6 +266,7 @@ public class UserAcademicRecordApplicationService {
     public AcademicStatus getCurrentUserAcademicRecord(User user) {
         if (user.getAcademicStatus() == null) {
             user.setAcademicStatus(AcademicStatus.UNDETERMINED);
+            jwtAuthenticationCache.evictUser(user.getId());
             userRepository.save(user);
         }
 
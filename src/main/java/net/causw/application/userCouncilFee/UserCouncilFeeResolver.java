@@ -0,0 +1,40 @@
+package net.causw.application.userCouncilFee;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.repository.userCouncilFee.UserCouncilFeeRepository;
+import net.causw.adapter.persistence.user.User;
+import net.causw.adapter.persistence.userCouncilFee.UserCouncilFee;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 사용자의 학생회비 납부 정보를 IN 쿼리로 한 번에 조회합니다.
+ * User / CouncilFeeFakeUser 를 함께 조회하므로 StatusUtil 의 학기 계산은 추가 쿼리 없이 메모리에서 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCouncilFeeResolver {
+
+    private final UserCouncilFeeRepository userCouncilFeeRepository;
+
+    // key: 사용자 id, 납부 정보가 없는 사용자는 포함되지 않음
+    public Map<String, UserCouncilFee> resolveByUserList(Collection<User> userList) {
+        List<String> userIdList = userList.stream()
+                .map(User::getId)
+                .distinct()
+                .toList();
+
+        Map<String, UserCouncilFee> userCouncilFeeMap = new HashMap<>();
+        for (int fromIndex = 0; fromIndex < userIdList.size(); fromIndex += StaticValue.USER_COUNCIL_FEE_LOOKUP_CHUNK_SIZE) {
+            int toIndex = Math.min(fromIndex + StaticValue.USER_COUNCIL_FEE_LOOKUP_CHUNK_SIZE, userIdList.size());
+            userCouncilFeeRepository.findAllByUser_IdIn(userIdList.subList(fromIndex, toIndex))
+                    .forEach(userCouncilFee -> userCouncilFeeMap.put(userCouncilFee.getUser().getId(), userCouncilFee));
+        }
+        return userCouncilFeeMap;
+    }
+}
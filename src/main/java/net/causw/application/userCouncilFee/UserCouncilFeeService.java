@@ -13,6 +13,7 @@ import net.causw.adapter.persistence.userCouncilFee.UserCouncilFeeLog;
 import net.causw.application.dto.userCouncilFee.*;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.dto.util.dtoMapper.UserCouncilFeeDtoMapper;
+import net.causw.application.excel.ChunkedEntityStreamFactory;
 import net.causw.application.excel.CouncilFeeExcelService;
 import net.causw.application.semester.SemesterService;
 import net.causw.domain.aop.annotation.MeasureTime;
@@ -20,13 +21,17 @@ import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.enums.userCouncilFee.CouncilFeeLogType;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @MeasureTime
 @Service
@@ -39,6 +44,7 @@ public class UserCouncilFeeService {
     private final UserRepository userRepository;
     private final UserCouncilFeeLogRepository userCouncilFeeLogRepository;
     private final SemesterService semesterService;
+    private final ChunkedEntityStreamFactory chunkedEntityStreamFactory;
 
     public void exportUserCouncilFeeToExcel(HttpServletResponse response) {
         Semester semester = semesterService.getCurrentSemesterEntity();
@@ -67,26 +73,29 @@ public class UserCouncilFeeService {
                 "본 학기 학생회비 적용 여부"
         );
 
-        List<UserCouncilFeeResponseDto> userCouncilFeeResponseDtoList = userCouncilFeeRepository.findAll()
-                        .stream().map(userCouncilFee -> (userCouncilFee.getIsJoinedService()) ?
-                                toUserCouncilFeeResponseDto(
-                                        userCouncilFee,
-                                        userCouncilFee.getUser(),
-                                        StatusUtil.getRestOfSemester(userCouncilFee),
-                                        StatusUtil.getIsAppliedCurrentSemester(userCouncilFee)
-                                ) :
-                                toUserCouncilFeeResponseDtoReduced(
-                                        userCouncilFee,
-                                        userCouncilFee.getCouncilFeeFakeUser(),
-                                        StatusUtil.getRestOfSemester(userCouncilFee),
-                                        StatusUtil.getIsAppliedCurrentSemester(userCouncilFee)
-                                )
-                        ).toList();
-
-        LinkedHashMap<String, List<UserCouncilFeeResponseDto>> sheetNameDataMap = new LinkedHashMap<>();
-        sheetNameDataMap.put("학생회비 납부자 현황", userCouncilFeeResponseDtoList);
-
-        councilFeeExcelService.generateExcel(
+        // 전체 납부자를 List 로 올리지 않고 청크 단위로 조회하여 한 행씩 작성
+        Supplier<Stream<UserCouncilFeeResponseDto>> userCouncilFeeResponseDtoStream = () -> chunkedEntityStreamFactory.stream(
+                lastId -> userCouncilFeeRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, StaticValue.EXCEL_EXPORT_CHUNK_SIZE)),
+                UserCouncilFee::getId
+        ).map(userCouncilFee -> (userCouncilFee.getIsJoinedService()) ?
+                toUserCouncilFeeResponseDto(
+                        userCouncilFee,
+                        userCouncilFee.getUser(),
+                        StatusUtil.getRestOfSemester(userCouncilFee),
+                        StatusUtil.getIsAppliedCurrentSemester(userCouncilFee)
+                ) :
+                toUserCouncilFeeResponseDtoReduced(
+                        userCouncilFee,
+                        userCouncilFee.getCouncilFeeFakeUser(),
+                        StatusUtil.getRestOfSemester(userCouncilFee),
+                        StatusUtil.getIsAppliedCurrentSemester(userCouncilFee)
+                )
+        );
+
+        LinkedHashMap<String, Supplier<Stream<UserCouncilFeeResponseDto>>> sheetNameDataMap = new LinkedHashMap<>();
+        sheetNameDataMap.put("학생회비 납부자 현황", userCouncilFeeResponseDtoStream);
+
+        councilFeeExcelService.generateStreamingExcel(
                 response,
                 fileName,
                 headerStringList,
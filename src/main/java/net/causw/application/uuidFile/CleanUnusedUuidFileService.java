@@ -2,21 +2,28 @@ package net.causw.application.uuidFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.causw.adapter.persistence.repository.uuidFile.*;
-import net.causw.adapter.persistence.uuidFile.*;
-import net.causw.adapter.persistence.uuidFile.joinEntity.*;
+import net.causw.adapter.persistence.repository.uuidFile.UuidFileKeyProjection;
+import net.causw.adapter.persistence.repository.uuidFile.UuidFileRepository;
 import net.causw.domain.aop.annotation.MeasureTime;
-import net.causw.domain.model.util.RedisUtils;
 import net.causw.domain.model.util.StaticValue;
 import org.springframework.batch.core.StepExecution;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
+
+/**
+ * 사용하지 않는 UuidFile 을 표시(mark)하고 삭제(sweep)합니다.
+ * 모든 단계는 변경되는 행만 갱신하는 집합 단위 쿼리로 처리합니다.
+ * 사용 중으로 되돌리는 검사는 모두 tb_uuid_file 을 갱신하므로 순서대로 실행하고,
+ * 비용이 큰 미사용 표시와 삭제는 id 범위 파티션(LOWER_UUID_FILE_ID_KEY, UPPER_UUID_FILE_ID_KEY) 별로 병렬 실행됩니다.
+ * 업로드 후 UNUSED_UUID_FILE_GRACE_PERIOD_DAYS 가 지나지 않은 파일은 아직 연결 전일 수 있으므로 삭제하지 않습니다.
+ */
 @MeasureTime
 @Slf4j
 @Component
@@ -24,348 +31,124 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CleanUnusedUuidFileService {
 
-    private final RedisUtils redisUtils;
-    private final UuidFileRepository uuidFileRepository;
-    private final CalendarAttachImageRepository calendarAttachImageRepository;
-    private final CircleMainImageRepository circleMainImageRepository;
-    private final EventAttachImageRepository eventAttachImageRepository;
-    private final PostAttachImageRepository postAttachImageRepository;
-    private final UserAcademicRecordApplicationAttachImageRepository userAcademicRecordApplicationAttachImageRepository;
-    private final UserAdmissionAttachImageRepository userAdmissionAttachImageRepository;
-    private final UserAdmissionLogAttachImageRepository userAdmissionLogAttachImageRepository;
-    private final UserProfileImageRepository userProfileImageRepository;
-
-
-    public void initIsUsedUuidFileIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = initIsUsedUuidFile();
-        } while (!isLast);
+    public static final String LOWER_UUID_FILE_ID_KEY = "lowerUuidFileId";
+    public static final String UPPER_UUID_FILE_ID_KEY = "upperUuidFileId";
+    private static final String LAST_UUID_FILE_ID_KEY = "lastUuidFileId";
 
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("uuidFile") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("uuidFile", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-    }
+    private final UuidFileRepository uuidFileRepository;
+    private final UuidFileService uuidFileService;
 
+    // 미사용으로 표시된 뒤 다시 참조된 파일을 join 테이블 별로 사용 중으로 되돌림
     @Transactional
-    public Boolean initIsUsedUuidFile() {
-        Integer pageNum = getPriorPageNum("uuidFile");
-        Page<UuidFile> uuidFilePage = uuidFileRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        uuidFilePage.forEach(uuidFile -> uuidFile.setIsUsed(false));
-        uuidFileRepository.saveAll(uuidFilePage);
-        pageNum++;
-        redisUtils.setPageNumData("uuidFile", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !uuidFilePage.isLast() ||
-                uuidFilePage.isEmpty() ||
-                uuidFilePage.getTotalElements() == 0 ||
-                uuidFilePage.getTotalPages() == 0 ||
-                uuidFilePage.getSize() == 0 ||
-                !uuidFilePage.hasNext();
-    }
-
     public void checkIsUsedWithCalendarAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithCalendarAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("calendarAttachImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("calendarAttachImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByCalendarAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithCalendarAttachImage() {
-        Integer pageNum = getPriorPageNum("calendarAttachImage");
-        Page<CalendarAttachImage> calendarAttachImagePage = calendarAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = calendarAttachImagePage.stream().map(CalendarAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("calendarAttachImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return  !calendarAttachImagePage.isLast() ||
-                calendarAttachImagePage.isEmpty() ||
-                calendarAttachImagePage.getTotalElements() == 0 ||
-                calendarAttachImagePage.getTotalPages() == 0 ||
-                calendarAttachImagePage.getSize() == 0 ||
-                !calendarAttachImagePage.hasNext();
-    }
-
     public void checkIsUsedWithCircleMainImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithCircleMainImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("circleMainImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("circleMainImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByCircleMainImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithCircleMainImage() {
-        Integer pageNum = getPriorPageNum("circleMainImage");
-        Page<CircleMainImage> circleMainImagePage = circleMainImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = circleMainImagePage.stream().map(CircleMainImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("circleMainImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return  !circleMainImagePage.isLast() ||
-                circleMainImagePage.isEmpty() ||
-                circleMainImagePage.getTotalElements() == 0 ||
-                circleMainImagePage.getTotalPages() == 0 ||
-                circleMainImagePage.getSize() == 0 ||
-                !circleMainImagePage.hasNext();
-    }
-
     public void checkIsUsedWithEventAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithEventAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("eventAttachImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("eventAttachImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByEventAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithEventAttachImage() {
-        Integer pageNum = getPriorPageNum("eventAttachImage");
-        Page<EventAttachImage> eventAttachImagePage = eventAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = eventAttachImagePage.stream().map(EventAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("eventAttachImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !eventAttachImagePage.isLast() ||
-                eventAttachImagePage.isEmpty() ||
-                eventAttachImagePage.getTotalElements() == 0 ||
-                eventAttachImagePage.getTotalPages() == 0 ||
-                eventAttachImagePage.getSize() == 0 ||
-                !eventAttachImagePage.hasNext();
-    }
-
     public void checkIsUsedWithPostAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithPostAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("postAttachImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("postAttachImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByPostAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithPostAttachImage() {
-        Integer pageNum = getPriorPageNum("postAttachImage");
-        Page<PostAttachImage> postAttachImagePage = postAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = postAttachImagePage.stream().map(PostAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("postAttachImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !postAttachImagePage.isLast() ||
-                postAttachImagePage.isEmpty() ||
-                postAttachImagePage.getTotalElements() == 0 ||
-                postAttachImagePage.getTotalPages() == 0 ||
-                postAttachImagePage.getSize() == 0 ||
-                !postAttachImagePage.hasNext();
-    }
-
     public void checkIsUsedWithUserAcademicRecordApplicationAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithUserAcademicRecordApplicationAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("userAcademicRecordApplicationAttachImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("userAcademicRecordApplicationAttachImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByUserAcademicRecordApplicationAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithUserAcademicRecordApplicationAttachImage() {
-        Integer pageNum = getPriorPageNum("userAcademicRecordApplicationAttachImage");
-        Page<UserAcademicRecordApplicationAttachImage> userAcademicRecordApplicationAttachImagePage = userAcademicRecordApplicationAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = userAcademicRecordApplicationAttachImagePage.stream().map(UserAcademicRecordApplicationAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("userAcademicRecordApplicationAttachImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !userAcademicRecordApplicationAttachImagePage.isLast() ||
-                userAcademicRecordApplicationAttachImagePage.isEmpty() ||
-                userAcademicRecordApplicationAttachImagePage.getTotalElements() == 0 ||
-                userAcademicRecordApplicationAttachImagePage.getTotalPages() == 0 ||
-                userAcademicRecordApplicationAttachImagePage.getSize() == 0 ||
-                !userAcademicRecordApplicationAttachImagePage.hasNext();
+    public void checkIsUsedWithUserAcademicRecordLogAttachImageIntegration(StepExecution stepExecution) {
+        putDataRow(stepExecution, uuidFileRepository.markUsedByUserAcademicRecordLogAttachImage());
     }
 
+    @Transactional
     public void checkIsUsedWithUserAdmissionAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithUserAdmissionAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("userAdmissionAttachImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("userAdmissionAttachImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByUserAdmissionAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithUserAdmissionAttachImage() {
-        Integer pageNum = getPriorPageNum("userAdmissionAttachImage");
-        Page<UserAdmissionAttachImage> userAdmissionAttachImagePage = userAdmissionAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = userAdmissionAttachImagePage.stream().map(UserAdmissionAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("userAdmissionAttachImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !userAdmissionAttachImagePage.isLast() ||
-                userAdmissionAttachImagePage.isEmpty() ||
-                userAdmissionAttachImagePage.getTotalElements() == 0 ||
-                userAdmissionAttachImagePage.getTotalPages() == 0 ||
-                userAdmissionAttachImagePage.getSize() == 0 ||
-                !userAdmissionAttachImagePage.hasNext();
-    }
-
     public void checkIsUsedWithUserAdmissionLogAttachImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithUserAdmissionLogAttachImage();
-        } while (!isLast);
-
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("userAdmissionLog") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
-        );
-
-        redisUtils.setPageNumData("userAdmissionLog", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
+        putDataRow(stepExecution, uuidFileRepository.markUsedByUserAdmissionLogAttachImage());
     }
 
     @Transactional
-    public Boolean checkIsUsedWithUserAdmissionLogAttachImage() {
-        Integer pageNum = getPriorPageNum("userAdmissionLog");
-        Page<UserAdmissionLogAttachImage> userAdmissionLogAttachImagePage = userAdmissionLogAttachImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = userAdmissionLogAttachImagePage.stream().map(UserAdmissionLogAttachImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("userAdmissionLog", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !userAdmissionLogAttachImagePage.isLast() ||
-                userAdmissionLogAttachImagePage.isEmpty() ||
-                userAdmissionLogAttachImagePage.getTotalElements() == 0 ||
-                userAdmissionLogAttachImagePage.getTotalPages() == 0 ||
-                userAdmissionLogAttachImagePage.getSize() == 0 ||
-                !userAdmissionLogAttachImagePage.hasNext();
+    public void checkIsUsedWithUserProfileImageIntegration(StepExecution stepExecution) {
+        putDataRow(stepExecution, uuidFileRepository.markUsedByUserProfileImage());
     }
 
-    public void checkIsUsedWithUserProfileImageIntegration(StepExecution stepExecution) {
-        Boolean isLast = false;
-        do {
-            isLast = checkIsUsedWithUserProfileImage();
-        } while (!isLast);
+    // 파티션의 id 범위 안에서만 미사용으로 표시
+    @Transactional
+    public void markUnusedUuidFileIntegration(StepExecution stepExecution) {
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        int unusedFileCount = uuidFileRepository.markUnusedIfNotReferenced(
+                getGracePeriodCutoff(stepExecution),
+                stepContext.getString(LOWER_UUID_FILE_ID_KEY, ""),
+                stepContext.getString(UPPER_UUID_FILE_ID_KEY, "")
+        );
+        log.info("Mark not used file: {}", unusedFileCount);
+        putDataRow(stepExecution, unusedFileCount);
+    }
+
+    /*
+     * 파티션의 id 범위 안에서 미사용 파일을 DELETE_UNUSED_UUID_FILE_CHUNK_SIZE 개씩 DB 에서 삭제하고 삭제한 수를 반환합니다.
+     * 마지막으로 삭제한 id 를 파티션의 Step ExecutionContext 에 저장하여 실패 시 이어서 재시작할 수 있도록 합니다.
+     * S3 객체는 DB 삭제가 커밋된 뒤 DeleteObjects 로 일괄 삭제하여, 롤백 시 파일만 사라지는 경우가 없도록 합니다.
+     */
+    @Transactional
+    public int deleteFileNotUsedChunk(StepExecution stepExecution) {
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        List<UuidFileKeyProjection> uuidFileKeyList = uuidFileRepository.findUnusedFileKeys(
+                getGracePeriodCutoff(stepExecution),
+                stepContext.getString(LAST_UUID_FILE_ID_KEY, stepContext.getString(LOWER_UUID_FILE_ID_KEY, "")),
+                stepContext.getString(UPPER_UUID_FILE_ID_KEY, ""),
+                StaticValue.DELETE_UNUSED_UUID_FILE_CHUNK_SIZE
+        );
+        if (uuidFileKeyList.isEmpty()) {
+            return 0;
+        }
 
-        stepExecution.getJobExecution().getExecutionContext().putInt(
-                "dataRow",
-                getPriorPageNum("userProfileImage") * StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE
+        uuidFileRepository.deleteAllByIdInBatch(
+                uuidFileKeyList.stream().map(UuidFileKeyProjection::getId).collect(Collectors.toList())
         );
 
-        redisUtils.setPageNumData("userProfileImage", -1, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-    }
+        List<String> fileKeyList = uuidFileKeyList.stream().map(UuidFileKeyProjection::getFileKey).collect(Collectors.toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                List<String> failedFileKeyList = uuidFileService.deleteStoredFileList(fileKeyList);
+                if (!failedFileKeyList.isEmpty()) {
+                    log.warn("Failed to delete stored file: {}", failedFileKeyList);
+                }
+            }
+        });
 
-    @Transactional
-    public Boolean checkIsUsedWithUserProfileImage() {
-        Integer pageNum = getPriorPageNum("userProfileImage");
-        Page<UserProfileImage> userProfileImagePage = userProfileImageRepository.findAll(
-                PageRequest.of(
-                        pageNum,
-                        StaticValue.SELECT_UNUSED_UUID_FILE_PAGE_SIZE)
-        );
-        Set<UuidFile> uuidFileSet = userProfileImagePage.stream().map(UserProfileImage::getUuidFile).collect(Collectors.toSet());
-        uuidFileSet.forEach(uuidFile -> uuidFile.setIsUsed(true));
-        uuidFileRepository.saveAll(uuidFileSet);
-        pageNum++;
-        redisUtils.setPageNumData("userProfileImage", pageNum, StaticValue.CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME);
-        return !userProfileImagePage.isLast() ||
-                userProfileImagePage.isEmpty() ||
-                userProfileImagePage.getTotalElements() == 0 ||
-                userProfileImagePage.getTotalPages() == 0 ||
-                userProfileImagePage.getSize() == 0 ||
-                !userProfileImagePage.hasNext();
-    }
+        stepContext.putString(LAST_UUID_FILE_ID_KEY, uuidFileKeyList.get(uuidFileKeyList.size() - 1).getId());
 
-    @Transactional
-    public void deleteFileNotUsed(StepExecution stepExecution) {
-        List<UuidFile> uuidFileList = uuidFileRepository.findAllByIsUsed(false);
+        // 파티션은 병렬로 실행되므로 공유되는 Job ExecutionContext 대신 Step ExecutionContext 에 기록
+        int deletedFileCount = stepContext.getInt("deletedFileCount", 0) + uuidFileKeyList.size();
+        log.info("Delete not used file: {}", deletedFileCount);
+        stepContext.putInt("deletedFileCount", deletedFileCount);
+        return uuidFileKeyList.size();
+    }
 
-        int deletedFileCount = uuidFileList.size();
-        log.info("Delete not used file: {}", uuidFileList.size());
-        uuidFileRepository.deleteAll(uuidFileList);
-        stepExecution.getJobExecution().getExecutionContext().putInt("deletedFileCount", deletedFileCount);
+    // 재시작하더라도 같은 기준 시각을 사용하도록 job parameter 의 실행 시각을 기준으로 계산
+    private LocalDateTime getGracePeriodCutoff(StepExecution stepExecution) {
+        LocalDateTime dateTime = stepExecution.getJobParameters().getLocalDateTime("dateTime");
+        return (dateTime != null ? dateTime : LocalDateTime.now())
+                .minusDays(StaticValue.UNUSED_UUID_FILE_GRACE_PERIOD_DAYS);
     }
 
-    private Integer getPriorPageNum(String tableName) {
-        Integer priorPageNum = redisUtils.getPageNumData(tableName);
-        if (priorPageNum == null || priorPageNum < 0) {
-            priorPageNum = 0;
-        }
-        return priorPageNum;
+    // 파티션 step 은 병렬로 실행되므로 공유되는 Job ExecutionContext 대신 Step ExecutionContext 에 기록
+    private void putDataRow(StepExecution stepExecution, int dataRow) {
+        stepExecution.getExecutionContext().putInt("dataRow", dataRow);
     }
 
 }
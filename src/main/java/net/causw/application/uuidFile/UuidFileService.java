@@ -111,6 +111,11 @@ public class UuidFileService extends StorageManager {
         }
     }
 
+    // DB 에서 이미 삭제된 파일의 S3 객체를 일괄 삭제하고, 삭제에 실패한 file key 를 반환
+    public List<String> deleteStoredFileList(@NotNull List<String> fileKeyList) {
+        return super.deleteFiles(fileKeyList);
+    }
+
 
 
     // Private Methods
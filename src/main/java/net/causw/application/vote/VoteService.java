@@ -1,7 +1,10 @@
 package net.causw.application.vote;
 
 import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.board.Board;
+import net.causw.adapter.persistence.circle.CircleMember;
 import net.causw.adapter.persistence.post.Post;
+import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.vote.VoteOptionRepository;
 import net.causw.adapter.persistence.repository.vote.VoteRecordRepository;
@@ -9,7 +12,6 @@ import net.causw.adapter.persistence.repository.vote.VoteRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.vote.Vote;
 import net.causw.adapter.persistence.vote.VoteOption;
-import net.causw.adapter.persistence.vote.VoteRecord;
 import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.dto.util.dtoMapper.UserDtoMapper;
@@ -18,15 +20,28 @@ import net.causw.application.dto.vote.CastVoteRequestDto;
 import net.causw.application.dto.vote.CreateVoteRequestDto;
 import net.causw.application.dto.vote.VoteOptionResponseDto;
 import net.causw.application.dto.vote.VoteResponseDto;
+import net.causw.application.pageable.PageableFactory;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.UnauthorizedException;
+import net.causw.domain.model.enums.circle.CircleMemberStatus;
+import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.validation.CircleMemberStatusValidator;
+import net.causw.domain.validation.TargetIsDeletedValidator;
+import net.causw.domain.validation.UserRoleIsNoneValidator;
+import net.causw.domain.validation.UserStateValidator;
+import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -38,6 +53,9 @@ public class VoteService {
     private final VoteRepository voteRepository;
     private final PostRepository postRepository;
     private final VoteRecordRepository voteRecordRepository;
+    private final VoteTallyLoader voteTallyLoader;
+    private final PageableFactory pageableFactory;
+    private final CircleMemberRepository circleMemberRepository;
 
     @Transactional
     public VoteResponseDto createVote(CreateVoteRequestDto createVoteRequestDTO, User user) {
@@ -69,26 +87,48 @@ public class VoteService {
         if (voteOptionIds == null || voteOptionIds.isEmpty()) {
             throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_OPTION_NOT_PROVIDED);
         }
+        Set<String> voteOptionIdSet = new HashSet<>(voteOptionIds);
+        List<VoteOption> voteOptions = voteOptionRepository.findAllById(voteOptionIdSet);
+        if (voteOptions.size() != voteOptionIdSet.size()) {
+            throw new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.VOTE_OPTION_NOT_FOUND);
+        }
         // 첫 번째 VoteOption을 이용해 Vote를 가져옴 (모든 옵션은 동일한 Vote에 속해야 함)
-        VoteOption firstVoteOption = voteOptionRepository.findById(castVoteRequestDto.getVoteOptionIdList().get(0))
-                .orElseThrow(() -> new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.VOTE_OPTION_NOT_FOUND));
-        Vote vote = firstVoteOption.getVote();
+        Vote vote = voteOptions.get(0).getVote();
+        if (voteOptions.stream().anyMatch(voteOption -> !voteOption.getVote().getId().equals(vote.getId()))) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_OPTION_NOT_FOUND);
+        }
+
+        // 종료된 투표의 집계는 캐시되므로 종료 이후에는 투표를 받지 않음
+        if (vote.isEnd()) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_ALREADY_END);
+        }
 
         // 중복 투표가 허용되지 않는 경우
+        if (!vote.isAllowMultiple() && voteOptionIdSet.size() > 1) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_NOT_MULTIPLE);
+        }
+
+        // 동시에 들어온 요청도 unique 제약으로 한 번만 기록되며, 이미 기록된 옵션은 그대로 둠
+        int affectedRowCount = voteRecordRepository.insertVoteRecords(vote.getId(), user.getId(), voteOptionIdSet);
+
+        // 위의 종료 여부 확인 이후 투표가 종료되면 INSERT ... SELECT 가 아무 행도 기록하지 않음
+        if (affectedRowCount == 0) {
+            throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_ALREADY_END);
+        }
+
         if (!vote.isAllowMultiple()) {
-            if (voteOptionIds.size() > 1) {
-                throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_NOT_MULTIPLE);
+            String voteOptionId = voteOptionIds.get(0);
+
+            // 요청한 옵션의 기록이 없다면 다른 옵션에 먼저 투표한 기록 때문에 unique 제약에 걸린 경우 (같은 옵션 재요청은 성공 처리)
+            if (voteRecordRepository.findForReadByVoteOption_IdAndUser_Id(voteOptionId, user.getId()).isEmpty()) {
+                throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_ALREADY_DONE);
             }
-            List<VoteRecord> existingVoteRecords = voteRecordRepository.findByVoteOption_VoteAndUser(vote, user);
-            if (!existingVoteRecords.isEmpty()) {
+
+            // single_choice_vote_id 가 채워지기 전의 기록은 unique 제약에 걸리지 않으므로 다른 옵션 기록이 있는지 직접 확인
+            if (voteRecordRepository.existsByVoteOption_Vote_IdAndUser_IdAndVoteOption_IdNot(vote.getId(), user.getId(), voteOptionId)) {
                 throw new BadRequestException(ErrorCode.INVALID_PARAMETER, MessageUtil.VOTE_ALREADY_DONE);
             }
         }
-        List<VoteOption> voteOptions = voteOptionRepository.findAllById(voteOptionIds);
-        List<VoteRecord> newVoteRecords = voteOptions.stream()
-                .map(voteOption -> VoteRecord.of(user, voteOption))
-                .collect(Collectors.toList());
-        voteRecordRepository.saveAll(newVoteRecords);
         return "투표 성공";
     }
 
@@ -120,6 +160,7 @@ public class VoteService {
         }
         vote.restartVote();
         voteRepository.save(vote);
+        voteTallyLoader.evict(vote.getId());
         return toVoteResponseDto(vote,user);
     }
 
@@ -130,35 +171,64 @@ public class VoteService {
         return toVoteResponseDto(vote,user);
     }
 
+    @Transactional(readOnly = true)
+    public Page<UserResponseDto> getVoteUsersByVoteOptionId(String voteOptionId, Integer pageNum, User user) {
+        VoteOption voteOption = voteOptionRepository.findById(voteOptionId)
+                .orElseThrow(() -> new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.VOTE_OPTION_NOT_FOUND));
+        // 게시글 조회와 같이 게시판(동아리 게시판이면 동아리 멤버 여부)에 접근 가능한 사용자만 투표자를 조회할 수 있음
+        initializeValidator(user, voteOption.getVote().getPost().getBoard()).validate();
+        if (voteOption.getVote().isAllowAnonymous()) {
+            throw new BadRequestException(ErrorCode.API_NOT_ALLOWED, MessageUtil.VOTE_ANONYMOUS_USERS_NOT_ACCESSIBLE);
+        }
+        return voteRecordRepository.findByVoteOption_IdOrderByCreatedAtAsc(voteOptionId, pageableFactory.create(pageNum, StaticValue.DEFAULT_PAGE_SIZE))
+                .map(voteRecord -> UserDtoMapper.INSTANCE.toUserResponseDto(voteRecord.getUser(), null, null));
+    }
+
+    // PostService 의 게시글 조회 검증과 동일
+    private ValidatorBucket initializeValidator(User user, Board board) {
+        Set<Role> roles = user.getRoles();
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+        validatorBucket
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(roles));
+
+        Optional.ofNullable(board.getCircle())
+                .filter(circle -> !roles.contains(Role.ADMIN) && !roles.contains(Role.PRESIDENT) && !roles.contains(Role.VICE_PRESIDENT))
+                .ifPresent(circle -> {
+                    CircleMember member = circleMemberRepository.findByUser_IdAndCircle_Id(user.getId(), circle.getId()).orElseThrow(
+                            () -> new UnauthorizedException(
+                                    ErrorCode.NOT_MEMBER,
+                                    MessageUtil.CIRCLE_APPLY_INVALID
+                            )
+                    );
+                    validatorBucket
+                            .consistOf(TargetIsDeletedValidator.of(circle.getIsDeleted(), StaticValue.DOMAIN_CIRCLE))
+                            .consistOf(CircleMemberStatusValidator.of(
+                                    member.getStatus(),
+                                    List.of(CircleMemberStatus.MEMBER)
+                            ));
+                });
+        return validatorBucket;
+    }
+
     private VoteResponseDto toVoteResponseDto(Vote vote, User user) {
+        VoteTally voteTally = voteTallyLoader.load(vote);
         List<VoteOptionResponseDto> voteOptionResponseDtoList = vote.getVoteOptions().stream()
                 .sorted(Comparator.comparing(VoteOption::getCreatedAt))
-                .map(this::tovoteOptionResponseDto)
+                .map(voteOption -> VoteDtoMapper.INSTANCE.toVoteOptionResponseDto(
+                        voteOption,
+                        voteTally.getVoteCount(voteOption.getId())
+                ))
                 .collect(Collectors.toList());
 
-        Set<String> uniqueUserIds = voteOptionResponseDtoList.stream()
-                .flatMap(voteOptionResponseDto -> voteOptionResponseDto.getVoteUsers().stream())
-                .map(UserResponseDto::getId)
-                .collect(Collectors.toSet());
-        Integer totalUserCount = uniqueUserIds.size();
         return VoteDtoMapper.INSTANCE.toVoteResponseDto(
                 vote,
                 voteOptionResponseDtoList
                 , StatusUtil.isVoteOwner(vote, user)
                 , vote.isEnd()
                 , voteRecordRepository.existsByVoteOption_VoteAndUser(vote, user)
-                , voteOptionResponseDtoList.stream()
-                        .mapToInt(VoteOptionResponseDto::getVoteCount)
-                        .sum()
-                , totalUserCount);
-    }
-
-    private VoteOptionResponseDto tovoteOptionResponseDto(VoteOption voteOption) {
-        List<VoteRecord> voteRecords = voteRecordRepository.findAllByVoteOption(voteOption);
-        List<UserResponseDto> userResponseDtos = voteRecords.stream()
-                .map(voteRecord -> UserDtoMapper.INSTANCE.toUserResponseDto(voteRecord.getUser(), null, null))
-                .collect(Collectors.toList());
-        return VoteDtoMapper.INSTANCE.toVoteOptionResponseDto(voteOption, voteRecords.size(), userResponseDtos);
+                , voteTally.getTotalVoteCount()
+                , voteTally.getTotalUserCount());
     }
 
 }
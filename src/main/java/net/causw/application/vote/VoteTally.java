@@ -0,0 +1,31 @@
+package net.causw.application.vote;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 투표 한 건의 옵션별 득표 수와 참여자 수 집계 결과
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VoteTally {
+
+    private final Map<String, Integer> voteCountMap;
+
+    private final Integer totalVoteCount;
+
+    private final Integer totalUserCount;
+
+    public static VoteTally of(Map<String, Integer> voteCountMap, Integer totalUserCount) {
+        return new VoteTally(
+                Map.copyOf(voteCountMap),
+                voteCountMap.values().stream().mapToInt(Integer::intValue).sum(),
+                totalUserCount
+        );
+    }
+
+    public Integer getVoteCount(String voteOptionId) {
+        return this.voteCountMap.getOrDefault(voteOptionId, 0);
+    }
+}
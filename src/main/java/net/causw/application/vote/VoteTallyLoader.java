@@ -0,0 +1,63 @@
+package net.causw.application.vote;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.causw.adapter.persistence.repository.vote.VoteOptionCountProjection;
+import net.causw.adapter.persistence.repository.vote.VoteRecordRepository;
+import net.causw.adapter.persistence.vote.Vote;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 투표의 옵션별 득표 수와 참여자 수를 GROUP BY 집계 쿼리로 계산합니다.
+ * 종료된 투표는 재시작 전까지 결과가 바뀌지 않으므로 로컬 메모리에 보관하며,
+ * 캐시 키에 투표의 updatedAt 을 포함하여 재시작 후 다시 종료된 투표가 이전 집계를 재사용하지 않도록 합니다.
+ */
+@Component
+public class VoteTallyLoader {
+
+    private static final String CACHE_NAME = "endedVoteTally";
+
+    private final Cache<String, VoteTally> endedVoteTallyCache;
+    private final VoteRecordRepository voteRecordRepository;
+
+    public VoteTallyLoader(VoteRecordRepository voteRecordRepository, MeterRegistry meterRegistry) {
+        this.voteRecordRepository = voteRecordRepository;
+        this.endedVoteTallyCache = Caffeine.newBuilder()
+                .maximumSize(StaticValue.VOTE_TALLY_CACHE_MAX_SIZE)
+                .expireAfterAccess(StaticValue.VOTE_TALLY_CACHE_TTL, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.endedVoteTallyCache, CACHE_NAME);
+    }
+
+    public VoteTally load(Vote vote) {
+        if (!vote.isEnd()) {
+            return tally(vote.getId());
+        }
+
+        return endedVoteTallyCache.get(vote.getId() + ":" + vote.getUpdatedAt(), key -> tally(vote.getId()));
+    }
+
+    public void evict(String voteId) {
+        endedVoteTallyCache.asMap().keySet().removeIf(key -> key.startsWith(voteId + ":"));
+    }
+
+    private VoteTally tally(String voteId) {
+        Map<String, Integer> voteCountMap = voteRecordRepository.countByVoteIdGroupByVoteOption(voteId)
+                .stream()
+                .collect(Collectors.toMap(
+                        VoteOptionCountProjection::getVoteOptionId,
+                        voteOptionCount -> voteOptionCount.getTotal().intValue()
+                ));
+
+        return VoteTally.of(voteCountMap, (int) voteRecordRepository.countDistinctUserByVoteId(voteId));
+    }
+}
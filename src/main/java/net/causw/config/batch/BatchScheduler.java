@@ -6,11 +6,14 @@ import lombok.extern.slf4j.Slf4j;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
@@ -24,10 +27,25 @@ public class BatchScheduler {
 
 
     private final JobLauncher jobLauncher;
+    private final MigrationJobLauncher migrationJobLauncher;
 
     @Resource(name = "cleanUpUnusedFilesJob")
     private Job cleanUpUnusedFilesJob;
 
+    @Resource(name = "reconcilePostCountJob")
+    private Job reconcilePostCountJob;
+
+    @Resource(name = "migrateVoteRecordJob")
+    private Job migrateVoteRecordJob;
+
+    // 배포 후 처음 기동될 때 한 번만 실행되어야 하는 마이그레이션
+    @EventListener(ApplicationReadyEvent.class)
+    public void launchMigrationJobs() {
+        migrationJobLauncher.launchOnce(migrateVoteRecordJob, StaticValue.VOTE_RECORD_MIGRATION_VERSION);
+        // 카운터 컬럼 추가 전에 작성된 게시글은 0으로 채워져 있으므로 보정 Job 으로 한 번 채움
+        migrationJobLauncher.launchOnce(reconcilePostCountJob, StaticValue.POST_COUNT_BACKFILL_VERSION);
+    }
+
     @Scheduled(cron = "0 0 3 1 * ?") // 매달 1일 오전 3시에 실행
     public void scheduleCleanUpJob() {
         try {
@@ -43,4 +61,19 @@ public class BatchScheduler {
         }
     }
 
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 오전 4시 30분에 실행
+    public void scheduleReconcilePostCountJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .addLocalDateTime("dateTime", LocalDateTime.now())
+                    .toJobParameters();
+
+            jobLauncher.run(reconcilePostCountJob, jobParameters);
+        } catch (Exception e) {
+            log.error("Batch job failed: {}", e.getMessage());
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.BATCH_FAIL + e.getMessage());
+        }
+    }
+
 }
\ No newline at end of file
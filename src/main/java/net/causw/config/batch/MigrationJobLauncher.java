@@ -0,0 +1,55 @@
+package net.causw.config.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배포 후 한 번만 실행되어야 하는 마이그레이션 Job 을 실행합니다.
+ * Job 이름과 고정된 version 파라미터로 JobInstance 를 식별하므로 완료된 마이그레이션은 다시 실행되지 않고,
+ * 여러 서버가 동시에 기동되어도 JobRepository 가 같은 JobInstance 의 실행을 하나만 허용합니다.
+ * 실패한 마이그레이션은 다음 실행 시 실패한 step 부터 재시작됩니다.
+ * 요청 스레드나 기동 스레드를 막지 않도록 별도 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class MigrationJobLauncher {
+
+    private static final String VERSION_PARAMETER = "version";
+
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public MigrationJobLauncher(JobRepository jobRepository) {
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("migration-job-"));
+    }
+
+    // 이미 완료되었거나 다른 서버에서 실행 중이면 실행하지 않고 false 를 반환
+    public boolean launchOnce(Job job, String version) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString(VERSION_PARAMETER, version)
+                .toJobParameters();
+
+        try {
+            jobLauncher.run(job, jobParameters);
+            log.info("Launch migration job {} (version {})", job.getName(), version);
+            return true;
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug("Migration job {} (version {}) is already completed", job.getName(), version);
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("Migration job {} (version {}) is already running", job.getName(), version);
+        } catch (Exception e) {
+            // 다른 서버가 같은 JobInstance 를 먼저 만든 경우에도 여기서 처리되며, 기동은 계속됩니다.
+            log.error("Failed to launch migration job {} (version {}): {}", job.getName(), version, e.getMessage());
+        }
+        return false;
+    }
+}
@@ -5,26 +5,37 @@ import net.causw.application.uuidFile.CleanUnusedUuidFileService;
 import net.causw.config.batch.listener.CheckMeasureStepListener;
 import net.causw.config.batch.listener.DeleteFileStepListener;
 import net.causw.config.batch.listener.DeleteUnusedFileJobCompletionNotificationListener;
+import net.causw.domain.model.util.StaticValue;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.retry.backoff.FixedBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class CleanUnusedUuidFilesBatchConfig {
 
     private final CleanUnusedUuidFileService cleanUnusedUuidFileService;
 
+    // 파티션 step 전용 실행기로, 빈으로 등록하면 Spring Boot 의 기본 applicationTaskExecutor 가 생성되지 않으므로 이 설정 안에서만 사용
+    private final TaskExecutor cleanUnusedUuidFileTaskExecutor = createCleanUnusedUuidFileTaskExecutor();
+
     @Bean
     public RetryTemplate retryTemplate() {
         RetryTemplate retryTemplate = new RetryTemplate();
@@ -45,44 +56,36 @@ public class CleanUnusedUuidFilesBatchConfig {
     @Bean
     public Job cleanUpUnusedFilesJob(JobRepository jobRepository,
                                      DeleteUnusedFileJobCompletionNotificationListener deleteUnusedFileJobCompletionNotificationListener,
-                                     @Qualifier("initIsUsedUuidFileIntegrationStep") Step initIsUsedUuidFileIntegrationStep,
                                      @Qualifier("checkIsUsedWithCalendarAttachImageIntegrationStep") Step checkIsUsedWithCalendarAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithCircleMainImageIntegrationStep") Step checkIsUsedWithCircleMainImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithEventAttachImageIntegrationStep") Step checkIsUsedWithEventAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithPostAttachImageIntegrationStep") Step checkIsUsedWithPostAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithUserAcademicRecordApplicationAttachImageIntegrationStep") Step checkIsUsedWithUserAcademicRecordApplicationAttachImageIntegrationStep,
+                                     @Qualifier("checkIsUsedWithUserAcademicRecordLogAttachImageIntegrationStep") Step checkIsUsedWithUserAcademicRecordLogAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithUserAdmissionAttachImageIntegrationStep") Step checkIsUsedWithUserAdmissionAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithUserAdmissionLogAttachImageIntegrationStep") Step checkIsUsedWithUserAdmissionLogAttachImageIntegrationStep,
                                      @Qualifier("checkIsUsedWithUserProfileImageIntegrationStep") Step checkIsUsedWithUserProfileImageIntegrationStep,
+                                     @Qualifier("markUnusedUuidFileIntegrationStep") Step markUnusedUuidFileIntegrationStep,
                                      @Qualifier("deleteFileNotUsedStep") Step deleteFileNotUsedStep
     ) {
+        // 사용 중으로 되돌리는 검사는 모두 tb_uuid_file 을 갱신하므로 병렬로 실행하면 잠금 경합만 늘어나 순서대로 실행하고,
+        // 비용이 큰 미사용 표시와 삭제만 id 범위 파티션 별로 병렬 실행
         return new JobBuilder("cleanUpUnusedFilesJob", jobRepository)
                 .listener(deleteUnusedFileJobCompletionNotificationListener)
-                .start(initIsUsedUuidFileIntegrationStep)
-                .next(checkIsUsedWithCalendarAttachImageIntegrationStep)
+                .start(checkIsUsedWithCalendarAttachImageIntegrationStep)
                 .next(checkIsUsedWithCircleMainImageIntegrationStep)
                 .next(checkIsUsedWithEventAttachImageIntegrationStep)
                 .next(checkIsUsedWithPostAttachImageIntegrationStep)
                 .next(checkIsUsedWithUserAcademicRecordApplicationAttachImageIntegrationStep)
+                .next(checkIsUsedWithUserAcademicRecordLogAttachImageIntegrationStep)
                 .next(checkIsUsedWithUserAdmissionAttachImageIntegrationStep)
                 .next(checkIsUsedWithUserAdmissionLogAttachImageIntegrationStep)
                 .next(checkIsUsedWithUserProfileImageIntegrationStep)
+                .next(markUnusedUuidFileIntegrationStep)
                 .next(deleteFileNotUsedStep)
                 .build();
     }
 
-    @Bean
-    public Step initIsUsedUuidFileIntegrationStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
-                                                  CheckMeasureStepListener checkMeasureStepListener) {
-        return new StepBuilder("initIsUsedUuidFileIntegrationStep", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    cleanUnusedUuidFileService.initIsUsedUuidFileIntegration(chunkContext.getStepContext().getStepExecution());
-                    return RepeatStatus.FINISHED;
-                }, transactionManager)
-                .listener(checkMeasureStepListener)
-                .build();
-    }
-
     @Bean
     public Step checkIsUsedWithCalendarAttachImageIntegrationStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
                                                                   CheckMeasureStepListener checkMeasureStepListener) {
@@ -143,6 +146,18 @@ public class CleanUnusedUuidFilesBatchConfig {
                 .build();
     }
 
+    @Bean
+    public Step checkIsUsedWithUserAcademicRecordLogAttachImageIntegrationStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                                                               CheckMeasureStepListener checkMeasureStepListener) {
+        return new StepBuilder("checkIsUsedWithUserAcademicRecordLogAttachImageIntegrationStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    cleanUnusedUuidFileService.checkIsUsedWithUserAcademicRecordLogAttachImageIntegration(chunkContext.getStepContext().getStepExecution());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .listener(checkMeasureStepListener)
+                .build();
+    }
+
     @Bean
     public Step checkIsUsedWithUserAdmissionAttachImageIntegrationStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
                                                                        CheckMeasureStepListener checkMeasureStepListener) {
@@ -178,15 +193,69 @@ public class CleanUnusedUuidFilesBatchConfig {
                 .build();
     }
 
+    @Bean
+    public Step markUnusedUuidFileIntegrationStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                                  CheckMeasureStepListener checkMeasureStepListener) {
+        Step markUnusedUuidFileWorkerStep = new StepBuilder("markUnusedUuidFileWorkerStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    cleanUnusedUuidFileService.markUnusedUuidFileIntegration(chunkContext.getStepContext().getStepExecution());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .listener(checkMeasureStepListener)
+                .build();
+
+        return new StepBuilder("markUnusedUuidFileIntegrationStep", jobRepository)
+                .partitioner(markUnusedUuidFileWorkerStep.getName(), uuidFileIdRangePartitioner())
+                .step(markUnusedUuidFileWorkerStep)
+                .gridSize(StaticValue.CLEAN_UNUSED_UUID_FILE_THREAD_POOL_SIZE)
+                .taskExecutor(cleanUnusedUuidFileTaskExecutor)
+                .build();
+    }
+
     @Bean Step deleteFileNotUsedStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
                                      DeleteFileStepListener deleteFileStepListener) {
-        return new StepBuilder("deleteFileNotUsedStep", jobRepository)
+        Step deleteFileNotUsedWorkerStep = new StepBuilder("deleteFileNotUsedWorkerStep", jobRepository)
                 .tasklet((contribution, chunkContext) -> {
-                    cleanUnusedUuidFileService.deleteFileNotUsed(chunkContext.getStepContext().getStepExecution());
-                    return RepeatStatus.FINISHED;
+                    // tasklet 반복마다 별도 트랜잭션으로 한 chunk 씩 삭제하며, 재시작 시 파티션 별로 마지막으로 삭제한 id 이후부터 이어서 처리
+                    int deletedCount = cleanUnusedUuidFileService.deleteFileNotUsedChunk(chunkContext.getStepContext().getStepExecution());
+                    return deletedCount > 0 ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
                 }, transactionManager)
                 .listener(deleteFileStepListener)
                 .build();
+
+        return new StepBuilder("deleteFileNotUsedStep", jobRepository)
+                .partitioner(deleteFileNotUsedWorkerStep.getName(), uuidFileIdRangePartitioner())
+                .step(deleteFileNotUsedWorkerStep)
+                .gridSize(StaticValue.CLEAN_UNUSED_UUID_FILE_THREAD_POOL_SIZE)
+                .taskExecutor(cleanUnusedUuidFileTaskExecutor)
+                .build();
+    }
+
+    /*
+     * UUID id 의 첫 16진수 자리를 기준으로 id 범위를 gridSize 개로 나눕니다.
+     * 첫 파티션은 하한 없이(""), 마지막 파티션은 상한 없이("") 처리하여 모든 id 가 정확히 한 파티션에 속하도록 합니다.
+     */
+    private Partitioner uuidFileIdRangePartitioner() {
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            for (int i = 0; i < gridSize; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString(CleanUnusedUuidFileService.LOWER_UUID_FILE_ID_KEY, i == 0 ? "" : getIdBoundary(i, gridSize));
+                context.putString(CleanUnusedUuidFileService.UPPER_UUID_FILE_ID_KEY, i == gridSize - 1 ? "" : getIdBoundary(i + 1, gridSize));
+                partitions.put("partition" + i, context);
+            }
+            return partitions;
+        };
+    }
+
+    private String getIdBoundary(int index, int gridSize) {
+        return Integer.toHexString(16 * index / gridSize);
+    }
+
+    private TaskExecutor createCleanUnusedUuidFileTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("clean-uuid-file-");
+        taskExecutor.setConcurrencyLimit(StaticValue.CLEAN_UNUSED_UUID_FILE_THREAD_POOL_SIZE);
+        return taskExecutor;
     }
 
 }
\ No newline at end of file
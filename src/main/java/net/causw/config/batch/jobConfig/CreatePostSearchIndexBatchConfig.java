@@ -0,0 +1,41 @@
+package net.causw.config.batch.jobConfig;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.config.database.PostSearchIndexMigration;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class CreatePostSearchIndexBatchConfig {
+
+    private final PostSearchIndexMigration postSearchIndexMigration;
+
+    @Bean
+    public Job createPostSearchIndexJob(JobRepository jobRepository,
+                                        @Qualifier("createPostSearchIndexStep") Step createPostSearchIndexStep
+    ) {
+        return new JobBuilder("createPostSearchIndexJob", jobRepository)
+                .start(createPostSearchIndexStep)
+                .build();
+    }
+
+    @Bean
+    public Step createPostSearchIndexStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("createPostSearchIndexStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    postSearchIndexMigration.createPostSearchIndex();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+}
@@ -0,0 +1,82 @@
+package net.causw.config.batch.jobConfig;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.config.database.VoteRecordConstraintMigration;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class MigrateVoteRecordBatchConfig {
+
+    private final VoteRecordConstraintMigration voteRecordConstraintMigration;
+
+    @Bean
+    public Job migrateVoteRecordJob(JobRepository jobRepository,
+                                    @Qualifier("addSingleChoiceVoteIdColumnStep") Step addSingleChoiceVoteIdColumnStep,
+                                    @Qualifier("deleteDuplicateVoteRecordStep") Step deleteDuplicateVoteRecordStep,
+                                    @Qualifier("backfillSingleChoiceVoteIdStep") Step backfillSingleChoiceVoteIdStep,
+                                    @Qualifier("addVoteRecordUniqueConstraintStep") Step addVoteRecordUniqueConstraintStep
+    ) {
+        return new JobBuilder("migrateVoteRecordJob", jobRepository)
+                .start(addSingleChoiceVoteIdColumnStep)
+                .next(deleteDuplicateVoteRecordStep)
+                .next(backfillSingleChoiceVoteIdStep)
+                .next(addVoteRecordUniqueConstraintStep)
+                .build();
+    }
+
+    @Bean
+    public Step addSingleChoiceVoteIdColumnStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("addSingleChoiceVoteIdColumnStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    voteRecordConstraintMigration.addSingleChoiceVoteIdColumn();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    // 제약 추가 step 이 실패하여 재시작되면, 그 사이 생긴 중복도 다시 정리하도록 완료된 경우에도 다시 실행
+    @Bean
+    public Step deleteDuplicateVoteRecordStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("deleteDuplicateVoteRecordStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    int deletedCount = voteRecordConstraintMigration.deleteDuplicateOptionRecords()
+                            + voteRecordConstraintMigration.deleteDuplicateSingleChoiceRecords();
+                    contribution.incrementWriteCount(deletedCount);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    @Bean
+    public Step backfillSingleChoiceVoteIdStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("backfillSingleChoiceVoteIdStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(voteRecordConstraintMigration.backfillSingleChoiceVoteId());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    @Bean
+    public Step addVoteRecordUniqueConstraintStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("addVoteRecordUniqueConstraintStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    voteRecordConstraintMigration.addUniqueConstraints();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+}
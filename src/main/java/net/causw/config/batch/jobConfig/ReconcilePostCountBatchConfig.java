@@ -0,0 +1,58 @@
+package net.causw.config.batch.jobConfig;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.application.post.PostCountReconcileService;
+import net.causw.application.post.PostCountReconcileService.ReconcileResult;
+import net.causw.config.batch.listener.CheckMeasureStepListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class ReconcilePostCountBatchConfig {
+
+    private static final String LAST_POST_ID_KEY = "lastPostId";
+
+    private final PostCountReconcileService postCountReconcileService;
+
+    @Bean
+    public Job reconcilePostCountJob(JobRepository jobRepository,
+                                     @Qualifier("reconcilePostCountStep") Step reconcilePostCountStep
+    ) {
+        return new JobBuilder("reconcilePostCountJob", jobRepository)
+                .start(reconcilePostCountStep)
+                .build();
+    }
+
+    // 청크(RECONCILE_POST_COUNT_CHUNK_SIZE) 하나당 tasklet 을 한 번 실행하여 청크마다 트랜잭션을 나누고,
+    // 마지막으로 처리한 게시글 id 를 Step ExecutionContext 에 저장하여 실패 시 이어서 재시작할 수 있도록 합니다.
+    @Bean
+    public Step reconcilePostCountStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                       CheckMeasureStepListener checkMeasureStepListener) {
+        return new StepBuilder("reconcilePostCountStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+                    ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+
+                    ReconcileResult result = postCountReconcileService.reconcileChunk(stepContext.getString(LAST_POST_ID_KEY, ""));
+
+                    stepContext.putString(LAST_POST_ID_KEY, result.getLastPostId());
+                    jobContext.putInt("dataRow", jobContext.getInt("dataRow", 0) + result.getProcessedCount());
+                    contribution.incrementWriteCount(result.getProcessedCount());
+
+                    return result.isLast() ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .listener(checkMeasureStepListener)
+                .build();
+    }
+
+}
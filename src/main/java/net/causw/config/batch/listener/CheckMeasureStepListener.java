@@ -19,7 +19,11 @@ public class CheckMeasureStepListener implements StepExecutionListener {
         // Step 실행 후 로직
 
         // 마지막 pageNum 가져오기
-        int dataRow = stepExecution.getJobExecution().getExecutionContext().getInt("dataRow", 0);
+        // 병렬 step 은 Step ExecutionContext 에, 그 외에는 Job ExecutionContext 에 기록됨
+        int dataRow = stepExecution.getExecutionContext().getInt(
+                "dataRow",
+                stepExecution.getJobExecution().getExecutionContext().getInt("dataRow", 0)
+        );
 
         // 실행 시간 계산
         long startTime = stepExecution.getExecutionContext().getLong("startTime");
@@ -18,7 +18,8 @@ public class DeleteFileStepListener implements StepExecutionListener {
     @Override
     public ExitStatus afterStep(StepExecution stepExecution) {
         // 삭제된 파일 수 가져오기
-        int deletedFileCount = stepExecution.getJobExecution().getExecutionContext().getInt("deletedFileCount", 0);
+        // 파티션 별로 Step ExecutionContext 에 기록됨
+        int deletedFileCount = stepExecution.getExecutionContext().getInt("deletedFileCount", 0);
 
         // 실행 시간 계산
         long startTime = stepExecution.getExecutionContext().getLong("startTime");
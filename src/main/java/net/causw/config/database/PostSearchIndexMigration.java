@@ -0,0 +1,39 @@
+package net.causw.config.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 전문 검색에 사용하는 FULLTEXT(ngram) 인덱스를 생성하는 마이그레이션입니다.
+ * JPA 의 ddl-auto 로는 FULLTEXT 인덱스를 만들 수 없고, 게시글 수에 비례해 오래 걸리는 DDL 이므로
+ * 서버 기동 시가 아니라 관리자가 요청할 때 MigrationJobLauncher 가 createPostSearchIndexJob 의 step 으로 한 번만 실행합니다.
+ * ngram parser 는 MySQL 에서만 지원하므로 다른 DB(h2 등)에서는 생성하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexMigration {
+
+    public static final String POST_SEARCH_INDEX = "ft_post_title_content";
+
+    private static final String TABLE_NAME = "tb_post";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaInspector schemaInspector;
+
+    public void createPostSearchIndex() {
+        if (!schemaInspector.isMySql() || schemaInspector.hasIndex(TABLE_NAME, POST_SEARCH_INDEX)) {
+            return;
+        }
+
+        log.info("Create fulltext index {} on {}", POST_SEARCH_INDEX, TABLE_NAME);
+        jdbcTemplate.execute("ALTER TABLE tb_post ADD FULLTEXT INDEX " + POST_SEARCH_INDEX + " (title, content) WITH PARSER ngram");
+    }
+
+    // 인덱스가 없으면 MATCH ... AGAINST 쿼리가 실패하므로 전문 검색 사용 전에 확인합니다.
+    public boolean isPostSearchIndexReady() {
+        return schemaInspector.isMySql() && schemaInspector.hasIndex(TABLE_NAME, POST_SEARCH_INDEX);
+    }
+}
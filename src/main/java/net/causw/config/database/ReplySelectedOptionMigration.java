@@ -0,0 +1,85 @@
+package net.causw.config.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.form.ReplySelectedOptionManager;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쉼표로 구분된 selected_option_list 만 가진 기존 답변을 비트마스크(selected_option_mask)와
+ * 비트마스크로 표현할 수 없는 선지 테이블(tb_reply_question_overflow_option)로 옮깁니다.
+ * selected_option_mask 가 null 인 행만 id 순으로 나누어 처리하므로, 서버 기동 시마다 실행해도 이미 옮긴 행은 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplySelectedOptionMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateSelectedOptionList() {
+        String lastId = "";
+        int migratedCount = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, selected_option_list FROM tb_reply_question " +
+                            "WHERE id > ? AND selected_option_mask IS NULL ORDER BY id LIMIT ?",
+                    lastId,
+                    StaticValue.REPLY_SELECTED_OPTION_MIGRATION_CHUNK_SIZE
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> maskArgList = new ArrayList<>();
+            List<Object[]> overflowArgList = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                String id = (String) row.get("id");
+                List<Integer> selectedOptionList = ReplySelectedOptionManager
+                        .fromString((String) row.get("selected_option_list"))
+                        .getSelectedOptionList();
+
+                boolean hasOverflowOption = false;
+                for (Integer selectedOption : selectedOptionList) {
+                    if (!ReplySelectedOptionManager.isMaskable(selectedOption)) {
+                        overflowArgList.add(new Object[]{id, selectedOption});
+                        hasOverflowOption = true;
+                    }
+                }
+                maskArgList.add(new Object[]{
+                        ReplySelectedOptionManager.toMask(selectedOptionList),
+                        hasOverflowOption,
+                        id
+                });
+            }
+
+            if (!overflowArgList.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT IGNORE INTO tb_reply_question_overflow_option (reply_question_id, option_number) VALUES (?, ?)",
+                        overflowArgList
+                );
+            }
+            jdbcTemplate.batchUpdate(
+                    "UPDATE tb_reply_question SET selected_option_mask = ?, has_overflow_option = ? WHERE id = ?",
+                    maskArgList
+            );
+
+            migratedCount += rows.size();
+            lastId = (String) rows.get(rows.size() - 1).get("id");
+        }
+
+        if (migratedCount > 0) {
+            log.info("Migrate selected option list of {} reply questions", migratedCount);
+        }
+    }
+}
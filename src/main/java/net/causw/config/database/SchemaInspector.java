@@ -0,0 +1,57 @@
+package net.causw.config.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * 마이그레이션에서 현재 스키마에 인덱스, 컬럼이 이미 있는지 확인할 때 사용합니다.
+ * information_schema 조회와 MySQL 전용 DDL 은 MySQL 에서만 실행하므로 다른 DB(h2 등)인지 먼저 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaInspector {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName
+            );
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Failed to read database product name: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean hasIndex(String tableName, String indexName) {
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class,
+                tableName,
+                indexName
+        );
+        return indexCount != null && indexCount > 0;
+    }
+
+    public boolean hasColumn(String tableName, String columnName) {
+        Integer columnCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class,
+                tableName,
+                columnName
+        );
+        return columnCount != null && columnCount > 0;
+    }
+}
@@ -0,0 +1,95 @@
+package net.causw.config.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표 기록의 unique 제약(uk_vote_record_user_option, uk_vote_record_single_choice)을 적용하기 위한 마이그레이션입니다.
+ * 제약을 추가하기 전에 중복 기록을 정리하고, 기존 단일 선택 투표 기록에 single_choice_vote_id 를 채웁니다.
+ * 중복 기록은 가장 먼저 생성된 기록(created_at, id 순)만 남깁니다.
+ * MigrationJobLauncher 가 migrateVoteRecordJob 의 step 으로 한 번만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteRecordConstraintMigration {
+
+    public static final String USER_OPTION_UNIQUE_KEY = "uk_vote_record_user_option";
+    public static final String SINGLE_CHOICE_UNIQUE_KEY = "uk_vote_record_single_choice";
+
+    private static final String TABLE_NAME = "tb_vote_record";
+    private static final String SINGLE_CHOICE_VOTE_ID_COLUMN = "single_choice_vote_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaInspector schemaInspector;
+
+    public void addSingleChoiceVoteIdColumn() {
+        if (!schemaInspector.isMySql() || schemaInspector.hasColumn(TABLE_NAME, SINGLE_CHOICE_VOTE_ID_COLUMN)) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE tb_vote_record ADD COLUMN single_choice_vote_id VARCHAR(255) NULL");
+    }
+
+    // 같은 사용자가 같은 옵션에 남긴 중복 기록 삭제
+    public int deleteDuplicateOptionRecords() {
+        int deletedCount = jdbcTemplate.update(
+                "DELETE FROM tb_vote_record WHERE id IN (" +
+                        "SELECT ranked.id FROM (" +
+                        "SELECT vr.id, ROW_NUMBER() OVER (PARTITION BY vr.user_id, vr.vote_option_id ORDER BY vr.created_at, vr.id) AS row_num " +
+                        "FROM tb_vote_record vr" +
+                        ") AS ranked WHERE ranked.row_num > 1)"
+        );
+        if (deletedCount > 0) {
+            log.warn("Deleted {} duplicate vote records of the same option", deletedCount);
+        }
+        return deletedCount;
+    }
+
+    // 단일 선택 투표에서 같은 사용자가 여러 옵션에 남긴 기록 중 처음 기록만 남기고 삭제
+    public int deleteDuplicateSingleChoiceRecords() {
+        int deletedCount = jdbcTemplate.update(
+                "DELETE FROM tb_vote_record WHERE id IN (" +
+                        "SELECT ranked.id FROM (" +
+                        "SELECT vr.id, ROW_NUMBER() OVER (PARTITION BY vr.user_id, vo.vote_id ORDER BY vr.created_at, vr.id) AS row_num " +
+                        "FROM tb_vote_record vr " +
+                        "JOIN tb_vote_option vo ON vo.id = vr.vote_option_id " +
+                        "JOIN tb_vote v ON v.id = vo.vote_id " +
+                        "WHERE v.allow_multiple = false" +
+                        ") AS ranked WHERE ranked.row_num > 1)"
+        );
+        if (deletedCount > 0) {
+            log.warn("Deleted {} duplicate vote records of single choice votes", deletedCount);
+        }
+        return deletedCount;
+    }
+
+    public int backfillSingleChoiceVoteId() {
+        return jdbcTemplate.update(
+                "UPDATE tb_vote_record vr " +
+                        "JOIN tb_vote_option vo ON vo.id = vr.vote_option_id " +
+                        "JOIN tb_vote v ON v.id = vo.vote_id " +
+                        "SET vr.single_choice_vote_id = v.id " +
+                        "WHERE v.allow_multiple = false AND vr.single_choice_vote_id IS NULL"
+        );
+    }
+
+    // ddl-auto 가 이미 만든 제약은 건너뛰고, 중복이 남아 있으면 DDL 이 실패하여 step 이 실패로 기록됩니다.
+    public void addUniqueConstraints() {
+        if (!schemaInspector.isMySql()) {
+            return;
+        }
+
+        if (!schemaInspector.hasIndex(TABLE_NAME, USER_OPTION_UNIQUE_KEY)) {
+            log.info("Add unique constraint {} on {}", USER_OPTION_UNIQUE_KEY, TABLE_NAME);
+            jdbcTemplate.execute("ALTER TABLE tb_vote_record ADD CONSTRAINT " + USER_OPTION_UNIQUE_KEY + " UNIQUE (user_id, vote_option_id)");
+        }
+
+        if (!schemaInspector.hasIndex(TABLE_NAME, SINGLE_CHOICE_UNIQUE_KEY)) {
+            log.info("Add unique constraint {} on {}", SINGLE_CHOICE_UNIQUE_KEY, TABLE_NAME);
+            jdbcTemplate.execute("ALTER TABLE tb_vote_record ADD CONSTRAINT " + SINGLE_CHOICE_UNIQUE_KEY + " UNIQUE (single_choice_vote_id, user_id)");
+        }
+    }
+}
@@ -1,5 +1,15 @@
 package net.causw.config.redis;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.causw.application.dto.homepage.HomePageCacheDto;
+import net.causw.application.dto.locker.LockerStateResponseDto;
+import net.causw.application.locker.LockerStateStreamService;
+import net.causw.config.security.JwtAuthenticationCache;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.model.util.TokenBlacklistBloomFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -10,7 +20,10 @@ import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -47,6 +60,40 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // 다른 서버에서 블랙리스트에 등록한 토큰을 로컬 Bloom filter 에 반영
+    // 사물함 상태 변경을 이 서버에 연결된 SSE 클라이언트에게 전달
+    // 다른 서버에서 변경된 사용자의 인증 캐시를 로컬 캐시에서 제거
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, Object> redisTemplate,
+            TokenBlacklistBloomFilter tokenBlacklistBloomFilter,
+            LockerStateStreamService lockerStateStreamService,
+            JwtAuthenticationCache jwtAuthenticationCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> tokenBlacklistBloomFilter.put(
+                        (String) redisTemplate.getValueSerializer().deserialize(message.getBody())
+                ),
+                new ChannelTopic(StaticValue.TOKEN_BLACKLIST_CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> lockerStateStreamService.broadcast(
+                        (LockerStateResponseDto) redisTemplate.getValueSerializer().deserialize(message.getBody())
+                ),
+                new ChannelTopic(StaticValue.LOCKER_STATE_CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> jwtAuthenticationCache.handleEvictMessage(
+                        (String) redisTemplate.getValueSerializer().deserialize(message.getBody())
+                ),
+                new ChannelTopic(StaticValue.JWT_AUTHENTICATION_EVICT_CHANNEL)
+        );
+        return container;
+    }
+
     // CacheManager 설정
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
@@ -57,7 +104,23 @@ public class RedisConfig {
 
         return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
                 .cacheDefaults(redisCacheConfiguration)
+                .withCacheConfiguration(StaticValue.HOME_PAGE_CACHE, homePageCacheConfiguration())
                 .build();
     }
 
+    // 홈 화면 캐시: LocalDateTime 직렬화를 위해 JavaTimeModule 을 등록한 타입 지정 직렬화기 사용
+    private RedisCacheConfiguration homePageCacheConfiguration() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, HomePageCacheDto.class)
+                ))
+                .entryTtl(Duration.ofMinutes(StaticValue.HOME_PAGE_CACHE_TTL_MINUTES));
+    }
+
 }
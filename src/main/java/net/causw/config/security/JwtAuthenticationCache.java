@@ -0,0 +1,130 @@
+package net.causw.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.config.security.userdetails.UserSnapshot;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.domain.model.util.TransactionAwareCacheEvictor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증을 마친 AccessToken 과 사용자 스냅샷(UserSnapshot)을 로컬 메모리에 보관합니다.
+ * 캐시 적중 시 토큰 파싱, 블랙리스트 조회(Redis), 인가 판단을 위한 사용자 조회(DB)를 모두 생략합니다.
+ * 영속성 컨텍스트에 묶인 User 엔티티는 보관하지 않으며, 인증 객체는 요청마다 스냅샷으로부터 새로 만듭니다.
+ * 항목은 JWT_AUTHENTICATION_CACHE_TTL 과 토큰 만료 시각 중 이른 시점에 만료되며,
+ * 사용자 정보가 바뀌거나 로그아웃하면 evict 메서드로 즉시 제거해야 하며,
+ * 제거 요청은 JWT_AUTHENTICATION_EVICT_CHANNEL 로 발행하여 다른 서버의 로컬 캐시에서도 제거합니다.
+ * 적중/실패 횟수는 jwtAuthentication 이름으로 actuator(Prometheus)에 노출됩니다.
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwtAuthentication";
+    private static final String EVICT_TOKEN_PREFIX = "token:";
+    private static final String EVICT_USER_PREFIX = "user:";
+    private static final String EVICT_ALL = "all";
+
+    private final Cache<String, CachedAuthentication> cache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public JwtAuthenticationCache(MeterRegistry meterRegistry, RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(StaticValue.JWT_AUTHENTICATION_CACHE_MAX_SIZE)
+                .expireAfter(new CachedAuthenticationExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    public Optional<UserSnapshot> get(String token) {
+        return Optional.ofNullable(cache.getIfPresent(token))
+                .map(CachedAuthentication::getUserSnapshot);
+    }
+
+    public void put(String token, UserSnapshot userSnapshot, Date tokenExpiration) {
+        long expiresAt = Math.min(
+                System.currentTimeMillis() + StaticValue.JWT_AUTHENTICATION_CACHE_TTL,
+                tokenExpiration.getTime()
+        );
+        cache.put(token, new CachedAuthentication(userSnapshot, expiresAt));
+    }
+
+    public void evictToken(String token) {
+        cache.invalidate(token);
+        publishEvict(EVICT_TOKEN_PREFIX + token);
+    }
+
+    public void evictUser(String userId) {
+        TransactionAwareCacheEvictor.runNowAndAfterCommit(() -> evictUserNow(userId));
+        TransactionAwareCacheEvictor.runAfterCommit(() -> publishEvict(EVICT_USER_PREFIX + userId));
+    }
+
+    // 학기 시작처럼 다수 사용자의 상태가 한 번에 바뀌는 경우에 사용합니다.
+    public void evictAll() {
+        TransactionAwareCacheEvictor.evictAllNowAndAfterCommit(cache);
+        TransactionAwareCacheEvictor.runAfterCommit(() -> publishEvict(EVICT_ALL));
+    }
+
+    // 다른 서버(자신 포함)에서 발행한 제거 요청을 로컬 캐시에 반영합니다.
+    public void handleEvictMessage(String message) {
+        if (EVICT_ALL.equals(message)) {
+            cache.invalidateAll();
+        } else if (message.startsWith(EVICT_USER_PREFIX)) {
+            evictUserNow(message.substring(EVICT_USER_PREFIX.length()));
+        } else if (message.startsWith(EVICT_TOKEN_PREFIX)) {
+            cache.invalidate(message.substring(EVICT_TOKEN_PREFIX.length()));
+        }
+    }
+
+    // 발행에 실패해도 로컬 캐시는 이미 제거되었고, 다른 서버의 항목은 JWT_AUTHENTICATION_CACHE_TTL 이후 만료됩니다.
+    private void publishEvict(String message) {
+        try {
+            redisTemplate.convertAndSend(StaticValue.JWT_AUTHENTICATION_EVICT_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish jwt authentication evict message: {}", e.getMessage());
+        }
+    }
+
+    private void evictUserNow(String userId) {
+        cache.asMap().values().removeIf(cachedAuthentication -> cachedAuthentication.getUserSnapshot().getId().equals(userId));
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class CachedAuthentication {
+        private final UserSnapshot userSnapshot;
+        private final long expiresAt;
+    }
+
+    private static class CachedAuthenticationExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String token, CachedAuthentication value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
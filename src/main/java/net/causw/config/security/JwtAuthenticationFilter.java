@@ -28,10 +28,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = jwtTokenProvider.resolveToken(request);
         if (StringUtils.hasText(token)) {
             try {
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication auth = jwtTokenProvider.getAuthentication(token);
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+                Authentication auth = jwtTokenProvider.resolveAuthentication(token);
+                SecurityContextHolder.getContext().setAuthentication(auth);
             } catch (UnauthorizedException e) {
                 SecurityContextHolder.clearContext();
                 request.setAttribute("exception", e);
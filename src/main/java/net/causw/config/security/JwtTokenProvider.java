@@ -2,6 +2,7 @@ package net.causw.config.security;
 
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
+import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.config.security.userdetails.CustomUserDetailsService;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.UnauthorizedException;
@@ -33,6 +34,8 @@ public class JwtTokenProvider {
 
     private final RedisUtils redisUtils;
 
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
     @PostConstruct
     protected void init() {
         this.secretKey = Base64.getEncoder().encodeToString(this.secretKey.getBytes());
@@ -61,7 +64,23 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        String userPk = getUserPk(token);
+        return toAuthentication(getUserPk(token));
+    }
+
+    // 캐시에 사용자 스냅샷이 있으면 그것으로 인증 객체를 만들고, 없으면 토큰 검증과 사용자 조회를 거쳐 스냅샷을 캐시에 저장합니다.
+    public Authentication resolveAuthentication(String token) {
+        CustomUserDetails userDetails = jwtAuthenticationCache.get(token)
+                .map(userDetailsService::loadUserBySnapshot)
+                .orElseGet(() -> {
+                    Claims claims = parseValidClaims(token);
+                    CustomUserDetails loadedUserDetails = userDetailsService.loadUserByUserId(claims.getSubject());
+                    jwtAuthenticationCache.put(token, loadedUserDetails.getUserSnapshot(), claims.getExpiration());
+                    return loadedUserDetails;
+                });
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private Authentication toAuthentication(String userPk) {
         UserDetails userDetails = userDetailsService.loadUserByUserId(userPk);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
@@ -81,6 +100,11 @@ public class JwtTokenProvider {
 
     //ACCESS TOKEN만 Validate합니다.
     public boolean validateToken(String jwtToken) {
+        parseValidClaims(jwtToken);
+        return true;
+    }
+
+    private Claims parseValidClaims(String jwtToken) {
         try {
             Jws<Claims> claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken);
 
@@ -88,7 +112,7 @@ public class JwtTokenProvider {
                 throw new UnauthorizedException(ErrorCode.INVALID_JWT, "블랙리스트에 등록된 토큰입니다.");
             }
 
-            return true;
+            return claims.getBody();
 
         } catch (ExpiredJwtException e) {
             throw new UnauthorizedException(ErrorCode.EXPIRED_JWT, MessageUtil.EXPIRED_TOKEN);
@@ -2,7 +2,6 @@ package net.causw.config.security;
 
 import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.repository.form.FormRepository;
-import net.causw.adapter.persistence.user.User;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import net.causw.domain.model.enums.user.Role;
@@ -39,9 +38,7 @@ public class SecurityService {
         }
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        User user = userDetails.getUser();
-
-        Set<Role> userRoleSet = user.getRoles();
+        Set<Role> userRoleSet = userDetails.getRoles();
         if (userRoleSet.contains(Role.ADMIN) ||
                 userRoleSet.contains(Role.PROFESSOR) ||
                 userRoleSet.contains(Role.PRESIDENT) ||
@@ -50,7 +47,7 @@ public class SecurityService {
             return true;
         }
 
-        AcademicStatus academicStatus = user.getAcademicStatus();
+        AcademicStatus academicStatus = userDetails.getAcademicStatus();
 
         if (academicStatus == null) {
             return false;
@@ -68,7 +65,7 @@ public class SecurityService {
         }
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        Set<String> userRoleSet = userDetails.getUser().getRoles()
+        Set<String> userRoleSet = userDetails.getRoles()
                 .stream()
                 .map(Role::getValue)
                 .collect(Collectors.toSet());
@@ -85,7 +82,7 @@ public class SecurityService {
         }
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        Set<String> userRoleSet = userDetails.getUser().getRoles()
+        Set<String> userRoleSet = userDetails.getRoles()
                 .stream()
                 .map(Role::getValue)
                 .collect(Collectors.toSet());
@@ -1,42 +1,63 @@
 package net.causw.config.security.userdetails;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
 import net.causw.adapter.persistence.user.User;
+import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-@Getter
-@Builder
-@AllArgsConstructor
+/**
+ * 권한/상태 판단은 불변 UserSnapshot 으로 처리하고, getUser 는 스냅샷으로 만든 User 사본을 반환하여 DB 를 조회하지 않습니다.
+ * 사용자 정보를 변경하거나 비밀번호가 필요한 경우에만 loadUser 로 DB 에서 조회한 엔티티를 사용합니다.
+ * 요청 단위로 생성되므로 사본과 엔티티가 다른 요청(스레드)과 공유되지 않습니다.
+ */
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final UserSnapshot userSnapshot;
+    private final Supplier<User> userLoader;
+    private User user;
+    private User loadedUser;
+
+    private CustomUserDetails(UserSnapshot userSnapshot, Supplier<User> userLoader, User user, User loadedUser) {
+        this.userSnapshot = userSnapshot;
+        this.userLoader = userLoader;
+        this.user = user;
+        this.loadedUser = loadedUser;
+    }
+
+    public static CustomUserDetails of(User user) {
+        return new CustomUserDetails(UserSnapshot.from(user), () -> user, user, user);
+    }
+
+    public static CustomUserDetails of(UserSnapshot userSnapshot, Supplier<User> userLoader) {
+        return new CustomUserDetails(userSnapshot, userLoader, null, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
+        return userSnapshot.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toList());
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return loadUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getName();
+        return userSnapshot.getName();
     }
 
     public String getUserId(){
-        return user.getId();
+        return userSnapshot.getId();
     }
 
     @Override
@@ -56,14 +77,37 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getState() == UserState.ACTIVE;
+        return userSnapshot.getState() == UserState.ACTIVE;
     }
 
+    // 저장(merge)하면 안 되는 비영속 사본이므로 조회와 권한 확인, 연관관계 설정에만 사용합니다.
     public User getUser() {
+        if (this.user == null) {
+            this.user = userSnapshot.toUser();
+        }
         return this.user;
     }
 
+    public User loadUser() {
+        if (this.loadedUser == null) {
+            this.loadedUser = userLoader.get();
+        }
+        return this.loadedUser;
+    }
+
+    public UserSnapshot getUserSnapshot() {
+        return this.userSnapshot;
+    }
+
     public UserState getUserState() {
-        return user.getState();
+        return userSnapshot.getState();
+    }
+
+    public Set<Role> getRoles() {
+        return userSnapshot.getRoles();
+    }
+
+    public AcademicStatus getAcademicStatus() {
+        return userSnapshot.getAcademicStatus();
     }
 }
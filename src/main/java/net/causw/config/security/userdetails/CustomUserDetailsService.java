@@ -21,22 +21,25 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return CustomUserDetails.builder()
-                .user(user)
-                .build();
+        return CustomUserDetails.of(user);
     }
 
-    public UserDetails loadUserByUserId(String userId) throws UsernameNotFoundException {
-        User user = userRepository.findById(userId)
+    public CustomUserDetails loadUserByUserId(String userId) throws UsernameNotFoundException {
+        return CustomUserDetails.of(findUser(userId));
+    }
+
+    // 캐시된 스냅샷으로 요청마다 새 인증 객체를 만들고, User 엔티티는 loadUser 를 호출할 때만 현재 요청에서 조회합니다.
+    public CustomUserDetails loadUserBySnapshot(UserSnapshot userSnapshot) {
+        return CustomUserDetails.of(userSnapshot, () -> findUser(userSnapshot.getId()));
+    }
+
+    private User findUser(String userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
                         MessageUtil.LOGIN_USER_NOT_FOUND
                         )
                 );
-
-        return CustomUserDetails.builder()
-                .user(user)
-                .build();
     }
 }
 
@@ -0,0 +1,43 @@
+package net.causw.config.security.userdetails;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.user.User;
+import net.causw.domain.model.enums.user.Role;
+import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
+
+import java.util.Set;
+
+/**
+ * 인증/인가 판단에 필요한 사용자 정보와 User 엔티티의 비영속 사본을 보관하는 불변 객체입니다.
+ * JwtAuthenticationCache 는 영속성 컨텍스트에 묶인 User 엔티티 대신 이 객체를 여러 요청(스레드)에 걸쳐 공유하며,
+ * 보관한 사본은 외부에 노출하지 않고 toUser 로 요청마다 새 사본을 만들어 요청 간에 변경이 공유되지 않도록 합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserSnapshot {
+    private final String id;
+    private final String name;
+    private final UserState state;
+    private final Set<Role> roles;
+    private final AcademicStatus academicStatus;
+    @Getter(AccessLevel.NONE)
+    private final User user;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                user.getState(),
+                Set.copyOf(user.getRoles()),
+                user.getAcademicStatus(),
+                user.copyForAuthentication()
+        );
+    }
+
+    public User toUser() {
+        return user.copyForAuthentication();
+    }
+}
@@ -0,0 +1,10 @@
+package net.causw.domain.model.enums.form;
+
+public enum FormExportStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
@@ -0,0 +1,6 @@
+package net.causw.domain.model.enums.post;
+
+public enum PostOrderType {
+    LATEST,     // 작성 시각, 게시글 id 내림차순
+    RELEVANCE   // 전문 검색 관련도 점수, 게시글 id 내림차순
+}
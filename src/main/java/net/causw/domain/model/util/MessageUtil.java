@@ -45,6 +45,7 @@ public class MessageUtil {
     public static final String CIRCLE_MEMBER_NOT_FOUND = "동아리를 찾을 수 없습니다.";
     public static final String INQUIRY_NOT_FOUND = "문의글을 찾을 수 없습니다.";
     public static final String POST_NOT_FOUND = "게시글을 찾을 수 없습니다.";
+    public static final String INVALID_CURSOR = "유효하지 않은 커서입니다.";
     public static final String COMMENT_NOT_FOUND = "댓글을 찾을 수 없습니다.";
     public static final String NOTICE_NOT_FOUND = "앱 공지 게시판을 찾을 수 없습니다.";
     public static final String SMALL_CLUB_NOT_FOUND = "소모임을 찾을 수 없습니다.";
@@ -85,6 +86,8 @@ public class MessageUtil {
     public static final String LOCKER_ACTION_ERROR = "사물함 액션 실행 중 에러가 발생하였습니다.";
     public static final String LOCKER_EXTEND_NOT_ALLOWED = "사물함 연장 신청 기간이 아닙니다. 공지를 확인해주세요.";
     public static final String LOCKER_INVALID_EXPIRE_DATE = "잘못된 반납일 입니다.";
+    public static final String LOCKER_INVALID_NUMBER_RANGE = "잘못된 사물함 번호 범위입니다.";
+    public static final String LOCKER_BULK_CREATE_LIMIT_EXCEEDED = "한 번에 생성할 수 있는 사물함 수를 초과하였습니다.";
 
 
     // User
@@ -155,8 +158,10 @@ public class MessageUtil {
     public static final String VOTE_NOT_MULTIPLE = "이 투표는 여러 항목을 선택할 수 없습니다.";
     public static final String VOTE_ALREADY_DONE = "해당 투표에 이미 참여한 이력이 있습니다.";
     public static final String VOTE_ALREADY_END = "이미 종료된 투표입니다.";
+    public static final String VOTE_ANONYMOUS_USERS_NOT_ACCESSIBLE = "익명 투표는 투표자 목록을 조회할 수 없습니다.";
 
     public static final String VOTE_NOT_FOUND = "투표가 존재하지 않습니다.";
+    public static final String FORM_EXPORT_JOB_NOT_FOUND = "신청서 결과 내보내기 작업을 찾을 수 없습니다.";
     public static final String VOTE_END_NOT_ACCESSIBLE = "투표 종료 권한이 존재하지 않습니다.";
     public static final String VOTE_START_NOT_ACCESSIBLE = "투표 시작 권한이 존재하지 않습니다.";
     // 500
@@ -164,6 +169,7 @@ public class MessageUtil {
     public static final String FILE_UPLOAD_FAIL = "파일 업로드에 실패했습니다.";
     public static final String FILE_DELETE_FAIL = "파일 삭제에 실패했습니다.";
     public static final String FAIL_TO_GENERATE_EXCEL_FILE = "엑셀 파일 생성에 실패했습니다.";
+    public static final String FORM_EXPORT_JOB_QUEUE_FULL = "대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.";
     public static final String BATCH_FAIL = "[배치 실행에 실패했습니다.]";
 
     public static final String FAIL_TO_CRAWL_CAU_SW_NOTICE_SITE = "소프트웨어학부 공지사항 크롤링 실패";
@@ -1,10 +1,20 @@
 package net.causw.domain.model.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -12,6 +22,8 @@ public class RedisUtils {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private final TokenBlacklistBloomFilter tokenBlacklistBloomFilter;
+
     /* 로그인 관련 Redis 메서드
     * 1. RefreshToken
     * Key: RefreshToken:{RefreshToken 값}
@@ -20,6 +32,7 @@ public class RedisUtils {
     * 2. Blacklist
     * Key: Blacklist:{AccessToken 값}
     * Value: "BLACKLISTED"
+    * 등록 시 TOKEN_BLACKLIST_CHANNEL 로 토큰을 발행하여 모든 서버의 로컬 Bloom filter 에 반영합니다.
      */
     public void setRefreshTokenData(String key, String value, Long expiredTime){
         String redisKey = "RefreshToken:" + key;
@@ -38,14 +51,125 @@ public class RedisUtils {
 
     public void addToBlacklist(String token) {
         String redisKey = "Blacklist" + token;
-        redisTemplate.opsForValue().set(redisKey, "BLACKLISTED", StaticValue.JWT_ACCESS_TOKEN_VALID_TIME, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().set(redisKey, "BLACKLISTED", StaticValue.JWT_ACCESS_TOKEN_VALID_TIME, TimeUnit.MILLISECONDS);
+        tokenBlacklistBloomFilter.put(token);
+        redisTemplate.convertAndSend(StaticValue.TOKEN_BLACKLIST_CHANNEL, token);
     }
 
+    // Bloom filter 에 없으면 블랙리스트에 없는 토큰이므로 Redis 를 조회하지 않습니다.
     public boolean isTokenBlacklisted(String token) {
+        if (!tokenBlacklistBloomFilter.mightContain(token)) {
+            return false;
+        }
+
         String redisKey = "Blacklist" + token;
         return "BLACKLISTED".equals(redisTemplate.opsForValue().get(redisKey));
     }
 
+    // 서버 기동 시 이미 등록된 블랙리스트를 Bloom filter 에 적재합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBlacklistToBloomFilter() {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match("Blacklist*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            cursor.forEachRemaining(redisKey -> tokenBlacklistBloomFilter.put(redisKey.substring("Blacklist".length())));
+        }
+    }
+
+    /* 게시글 조회수 관련 Redis 메서드
+    * 1. PostView (HyperLogLog)
+    * Key: PostView:{Post ID}
+    * Value: {User ID}
+    * 새로운 사용자가 조회할 때마다 만료 시간을 POST_VIEW_EXPIRED_TIME 으로 연장하여, 더 이상 조회되지 않는 게시글의 key 는 삭제됩니다.
+    *
+    * 2. PostViewBase (String)
+    * Key: PostViewBase:{Post ID}
+    * Value: {PostView 를 새로 만들 때의 DB 조회수}
+    * PostView 가 만료된 뒤 다시 만들어지면 고유 사용자 집계가 0 부터 시작되므로, 그 시점의 DB 조회수를 기준값으로 두고
+    * 기준값 + 고유 사용자 수를 누적 조회수로 사용합니다. PostView 와 같은 만료 시간을 가집니다.
+    *
+    * 3. PostViewUpdated (Set)
+    * Key: PostViewUpdated
+    * Value: {DB 에 반영되지 않은 조회가 있는 Post ID}
+     */
+    private static final RedisScript<Long> ADD_POST_VIEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "redis.call('SET', KEYS[2], ARGV[2]) " +
+                    "end " +
+                    "local changed = redis.call('PFADD', KEYS[1], ARGV[1]) " +
+                    "if changed == 1 then " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+                    "redis.call('SADD', KEYS[3], ARGV[4]) " +
+                    "end " +
+                    "return changed",
+            Long.class
+    );
+
+    // 기준값이 없는 key(기준값 도입 전에 만들어진 PostView)는 기준값을 0 으로 봅니다.
+    private static final RedisScript<Long> GET_POST_VIEW_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "local base = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+                    "return base + redis.call('PFCOUNT', KEYS[1])",
+            Long.class
+    );
+
+    public void addPostView(String postId, String userId, Long persistedViewCount) {
+        redisTemplate.execute(
+                ADD_POST_VIEW_SCRIPT,
+                List.of("PostView:" + postId, "PostViewBase:" + postId, "PostViewUpdated"),
+                userId,
+                persistedViewCount,
+                StaticValue.POST_VIEW_EXPIRED_TIME,
+                postId
+        );
+    }
+
+    public Long getPostViewCount(String postId) {
+        return redisTemplate.execute(
+                GET_POST_VIEW_COUNT_SCRIPT,
+                List.of("PostView:" + postId, "PostViewBase:" + postId)
+        );
+    }
+
+    public List<String> popUpdatedPostIds(long count) {
+        List<Object> postIds = redisTemplate.opsForSet().pop("PostViewUpdated", count);
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream().map(String.class::cast).toList();
+    }
+
+    public void addUpdatedPostIds(Collection<String> postIds) {
+        if (!postIds.isEmpty()) {
+            redisTemplate.opsForSet().add("PostViewUpdated", postIds.toArray());
+        }
+    }
+
+    /* 신청서 결과 내보내기 관련 Redis 메서드
+    * Key: FormExportJob:{Job ID}
+    * Value(Hash): formId, requesterId, fileName, status, fileKey
+    * 여러 서버 중 어느 서버에서든 작업 상태를 조회할 수 있도록 Redis 에 저장합니다.
+     */
+    public void setFormExportJobData(String jobId, Map<String, String> jobData, Long expiredTime) {
+        String redisKey = "FormExportJob:" + jobId;
+        redisTemplate.opsForHash().putAll(redisKey, jobData);
+        redisTemplate.expire(redisKey, expiredTime, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, String> getFormExportJobData(String jobId) {
+        String redisKey = "FormExportJob:" + jobId;
+        return redisTemplate.opsForHash().entries(redisKey)
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(
+                        entry -> (String) entry.getKey(),
+                        entry -> (String) entry.getValue()
+                ));
+    }
+
+    public void deleteFormExportJobData(String jobId) {
+        redisTemplate.delete("FormExportJob:" + jobId);
+    }
+
     /* UuidFile 관련 Redis 메서드
     * 1. PageNum
     * Key: {tableName}PageNum
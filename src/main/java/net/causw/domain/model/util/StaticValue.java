@@ -16,6 +16,7 @@ public class StaticValue {
     public static final Integer DEFAULT_POST_PAGE_SIZE = 20;
     public static final Integer DEFAULT_COMMENT_PAGE_SIZE = 20;
     public static final Integer HOME_POST_PAGE_SIZE = 3;
+    public static final Integer MIN_SEARCH_KEYWORD_LENGTH = 2;    // MySQL ngram_token_size
     public final static Integer USER_LIST_PAGE_SIZE = 30;
 
     // Event
@@ -25,6 +26,37 @@ public class StaticValue {
     public static final Long JWT_ACCESS_TOKEN_VALID_TIME = 1000L * 60 * 30;    // 30min
     public static final Long JWT_REFRESH_TOKEN_VALID_TIME = 1000L * 60 * 60 * 24 * 7;   // 7day
     public static final Integer JWT_ACCESS_THRESHOLD = 60 * 60 * 24;  // 1 day
+    public static final Long JWT_AUTHENTICATION_CACHE_TTL = 1000L * 60;    // 1min
+    public static final Long JWT_AUTHENTICATION_CACHE_MAX_SIZE = 10000L;
+    public static final String JWT_AUTHENTICATION_EVICT_CHANNEL = "JwtAuthenticationEvictChannel";
+
+    // AccessToken Blacklist
+    public static final String TOKEN_BLACKLIST_CHANNEL = "BlacklistChannel";
+    public static final Integer TOKEN_BLACKLIST_FILTER_BIT_SIZE = 1 << 20;   // 128KB
+    public static final Integer TOKEN_BLACKLIST_FILTER_HASH_COUNT = 5;
+
+    // Locker State SSE
+    public static final String LOCKER_STATE_CHANNEL = "LockerStateChannel";
+    public static final Long LOCKER_STATE_SSE_TIMEOUT = 1000L * 60 * 30;    // 30min
+    public static final Long LOCKER_STATE_SSE_HEARTBEAT_INTERVAL = 1000L * 30;    // 30sec
+
+    // Locker Bulk Create
+    public static final Integer LOCKER_BULK_INSERT_BATCH_SIZE = 500;
+    public static final Long LOCKER_BULK_CREATE_MAX_COUNT = 5000L;
+
+    // Migration (완료된 마이그레이션을 다시 실행해야 할 때만 version 을 올립니다)
+    public static final String VOTE_RECORD_MIGRATION_VERSION = "1";
+    public static final String POST_COUNT_BACKFILL_VERSION = "1";
+    public static final String POST_SEARCH_INDEX_MIGRATION_VERSION = "1";
+
+    // Vote Tally
+    public static final Long VOTE_TALLY_CACHE_TTL = 1000L * 60 * 60;    // 1hour
+    public static final Long VOTE_TALLY_CACHE_MAX_SIZE = 1000L;
+
+    // Form Schema
+    public static final Long FORM_SCHEMA_CACHE_TTL = 1000L * 60 * 60;    // 1hour
+    public static final Long FORM_SCHEMA_CACHE_MAX_SIZE = 1000L;
+    public static final Integer FORM_SUMMARY_ANSWER_PAGE_SIZE = 20;   // 요약 조회 시 함께 반환하는 주관식 답변 수 (첫 페이지)
 
     // Swagger configuration
     public static final String SWAGGER_API_NAME = "CAU_SW API";
@@ -73,10 +105,47 @@ public class StaticValue {
     public static final String USER_CLOSED = "인증 서류 재제출로 인한 신청 서류 종료";
 
     // CleanUnusedUuidFile
-    public static final Integer SELECT_UNUSED_UUID_FILE_PAGE_SIZE = 10000;
-    public static final Long CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME = 1000L * 60 * 60;   // 1hour
+    public static final Long UNUSED_UUID_FILE_GRACE_PERIOD_DAYS = 7L;   // 업로드 후 이 기간이 지난 파일만 삭제 대상
+    public static final Integer DELETE_UNUSED_UUID_FILE_CHUNK_SIZE = 1000;
+    public static final Integer S3_DELETE_OBJECTS_MAX_KEYS = 1000;    // DeleteObjects 요청 당 최대 key 수
+    public static final Integer CLEAN_UNUSED_UUID_FILE_THREAD_POOL_SIZE = 4;   // 미사용 파일 표시/삭제 id 범위 파티션 수 (병렬 스레드 수)
+
+    // Excel
+    public static final Integer EXCEL_ROW_ACCESS_WINDOW_SIZE = 100;    // SXSSF 메모리 유지 행 수
+    public static final Integer EXCEL_EXPORT_CHUNK_SIZE = 500;
+
+    // FormExport
+    public static final String FORM_EXPORT_DIRECTORY = "export/form";
+    public static final Integer FORM_EXPORT_THREAD_POOL_SIZE = 2;
+    public static final Integer FORM_EXPORT_QUEUE_CAPACITY = 20;   // 대기할 수 있는 내보내기 작업 수
+    public static final Long FORM_EXPORT_JOB_EXPIRED_TIME = 1000L * 60 * 60 * 24;  // 24hour, 작업 정보와 결과 파일 보관 기간
+    public static final Long FORM_EXPORT_DOWNLOAD_URL_EXPIRED_TIME = 1000L * 60 * 10;  // 10min
+    public static final Long FORM_EXPORT_FILE_CLEAN_INTERVAL = 1000L * 60 * 60;  // 1hour
+
+    // Cache
+    public static final String HOME_PAGE_CACHE = "homePage";
+    public static final Long HOME_PAGE_CACHE_TTL_MINUTES = 5L;
+    public static final Long LOCKER_REGISTRATION_WINDOW_CACHE_TTL = 1000L * 5;    // 5sec
+    public static final Long LOCKER_OCCUPANCY_CACHE_TTL = 1000L * 3;    // 3sec
+    public static final Long POST_SEARCH_INDEX_CACHE_TTL = 1000L * 60;    // 1min
+
+    // PostCountReconcile
+    public static final Integer RECONCILE_POST_COUNT_CHUNK_SIZE = 1000;
+
+    // PostViewCount
+    public static final Long POST_VIEW_COUNT_FLUSH_INTERVAL = 1000L * 60;    // 1min
+    public static final Integer POST_VIEW_COUNT_FLUSH_CHUNK_SIZE = 500;
+    public static final Long POST_VIEW_EXPIRED_TIME = 1000L * 60 * 60 * 24 * 30;  // 30day, 마지막 고유 조회 이후 HyperLogLog 보관 기간
+
+    // UserCouncilFeeResolver
+    public static final Integer USER_COUNCIL_FEE_LOOKUP_CHUNK_SIZE = 1000;  // IN 쿼리 당 최대 사용자 수
+
+    // ReplySelectedOptionMigration
+    public static final Integer REPLY_SELECTED_OPTION_MIGRATION_CHUNK_SIZE = 1000;
 
     // WebCrawlerService
     public static final String CAU_CSE_BASE_URL = "https://cse.cau.ac.kr/sub05/sub0501.php?offset="; // CAU 소프트웨어학부 공지사항 크롤링 주소
+    public static final Integer CRAWL_DETAIL_FETCH_CONCURRENCY = 8;    // 상세 페이지 동시 요청 수
+    public static final Integer CRAWL_CONNECT_TIMEOUT = 1000 * 10;  // 10s
 
 }
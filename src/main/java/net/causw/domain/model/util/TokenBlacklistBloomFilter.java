@@ -0,0 +1,96 @@
+package net.causw.domain.model.util;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트에 등록된 AccessToken 을 기록하는 로컬 Bloom filter 입니다.
+ * mightContain 이 false 이면 블랙리스트에 없는 토큰이 확실하므로 Redis 조회를 생략할 수 있습니다.
+ * AccessToken 유효 시간마다 세대를 교체(current -> previous)하여,
+ * 등록된 토큰은 최소 유효 시간 동안 유지되고 만료된 토큰은 자연스럽게 제거됩니다.
+ */
+@Component
+public class TokenBlacklistBloomFilter {
+
+    private volatile BitArray current = new BitArray(StaticValue.TOKEN_BLACKLIST_FILTER_BIT_SIZE);
+    private volatile BitArray previous = new BitArray(StaticValue.TOKEN_BLACKLIST_FILTER_BIT_SIZE);
+
+    public synchronized void put(String token) {
+        long[] hashes = hash(token);
+        for (int i = 0; i < StaticValue.TOKEN_BLACKLIST_FILTER_HASH_COUNT; i++) {
+            current.set(index(hashes, i));
+        }
+    }
+
+    public boolean mightContain(String token) {
+        long[] hashes = hash(token);
+        return contains(current, hashes) || contains(previous, hashes);
+    }
+
+    @Scheduled(fixedRateString = "#{T(net.causw.domain.model.util.StaticValue).JWT_ACCESS_TOKEN_VALID_TIME}",
+            initialDelayString = "#{T(net.causw.domain.model.util.StaticValue).JWT_ACCESS_TOKEN_VALID_TIME}")
+    public synchronized void rotate() {
+        previous = current;
+        current = new BitArray(StaticValue.TOKEN_BLACKLIST_FILTER_BIT_SIZE);
+    }
+
+    private boolean contains(BitArray bitArray, long[] hashes) {
+        for (int i = 0; i < StaticValue.TOKEN_BLACKLIST_FILTER_HASH_COUNT; i++) {
+            if (!bitArray.get(index(hashes, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing: h1 + i * h2
+    private int index(long[] hashes, int i) {
+        long combined = hashes[0] + i * hashes[1];
+        return (int) ((combined & Long.MAX_VALUE) % StaticValue.TOKEN_BLACKLIST_FILTER_BIT_SIZE);
+    }
+
+    // FNV-1a 64bit 해시와 이를 섞은 값을 두 개의 독립 해시로 사용합니다.
+    private long[] hash(String token) {
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : token.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b;
+            h1 *= 0x100000001b3L;
+        }
+
+        long h2 = h1;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xff51afd7ed558ccdL;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xc4ceb9fe1a85ec53L;
+        h2 ^= h2 >>> 33;
+
+        return new long[]{h1, h2 | 1L};
+    }
+
+    private static class BitArray {
+        private final AtomicLongArray words;
+
+        private BitArray(int bitSize) {
+            this.words = new AtomicLongArray((bitSize + 63) >>> 6);
+        }
+
+        private void set(int bitIndex) {
+            int wordIndex = bitIndex >>> 6;
+            long mask = 1L << bitIndex;
+            long word;
+            do {
+                word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(wordIndex, word, word | mask));
+        }
+
+        private boolean get(int bitIndex) {
+            return (words.get(bitIndex >>> 6) & (1L << bitIndex)) != 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package net.causw.domain.model.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 로컬 캐시를 제거할 때 사용합니다.
+ * 즉시 제거한 뒤 커밋 이후에도 한 번 더 제거하여, 커밋 전에 다른 요청이 읽은 이전 값이 다시 캐시되는 것을 막습니다.
+ * 트랜잭션 밖에서 호출되면 즉시 한 번만 실행합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionAwareCacheEvictor {
+
+    public static <K> void evictNowAndAfterCommit(Cache<K, ?> cache, K key) {
+        runNowAndAfterCommit(() -> cache.invalidate(key));
+    }
+
+    public static void evictAllNowAndAfterCommit(Cache<?, ?> cache) {
+        runNowAndAfterCommit(cache::invalidateAll);
+    }
+
+    public static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(eviction);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 이후에, 밖이면 즉시 실행합니다.
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
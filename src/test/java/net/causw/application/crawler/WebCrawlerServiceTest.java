@@ -0,0 +1,265 @@
+package net.causw.application.crawler;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.causw.adapter.persistence.crawled.CrawledFileLink;
+import net.causw.adapter.persistence.crawled.CrawledNotice;
+import net.causw.adapter.persistence.crawled.LatestCrawl;
+import net.causw.adapter.persistence.repository.crawled.CrawledNoticeRepository;
+import net.causw.adapter.persistence.repository.crawled.LatestCrawlRepository;
+import net.causw.domain.model.enums.crawl.CrawlCategory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 HTTP 서버가 src/test/resources/crawler 의 목록/상세 페이지를 응답하도록 하여,
+ * 목록 탐색 -> 상세 페이지 수집 -> 저장 단계의 결과와 순서를 검증합니다.
+ * 상세 페이지는 uid 별 ETag 를 내려주고, 같은 ETag 로 조건부 요청하면 304 를 응답합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebCrawlerService.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WebCrawlerServiceTest {
+
+    private static final String NOTICE_PATH = "/sub05/sub0501.php";
+    private static final String FIXTURE_DIRECTORY = "/crawler/";
+
+    private static final List<StubRequest> requests = new CopyOnWriteArrayList<>();
+    private static HttpServer server;
+
+    @Autowired
+    private WebCrawlerService webCrawlerService;
+
+    @Autowired
+    private CrawledNoticeRepository crawledNoticeRepository;
+
+    @Autowired
+    private LatestCrawlRepository latestCrawlRepository;
+
+    @SpyBean
+    private CrawledNoticePersistService crawledNoticePersistService;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(NOTICE_PATH, WebCrawlerServiceTest::handle);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void crawlerProperties(DynamicPropertyRegistry registry) {
+        registry.add("crawler.cau-cse.base-url", () -> baseUrl() + NOTICE_PATH + "?offset=");
+    }
+
+    @AfterEach
+    void tearDown() {
+        crawledNoticeRepository.deleteAll();
+        latestCrawlRepository.deleteAllInBatch();
+        requests.clear();
+    }
+
+    @Test
+    void 처음_크롤링하면_모든_목록_페이지를_탐색하고_공지사항을_최신순으로_저장한다() {
+        webCrawlerService.crawlAndSaveCAUSWNoticeSite();
+
+        // 탐색: 공지사항이 없는 페이지가 나올 때까지 목록 페이지를 순서대로 요청
+        assertThat(listRequests()).containsExactly("1", "2", "3");
+
+        // 수집: 두 페이지에 반복된 고정 공지를 포함해 상세 페이지를 한 번씩, 조건부 헤더 없이 요청
+        assertThat(detailRequests())
+                .extracting(StubRequest::uid)
+                .containsExactlyInAnyOrder("105", "104", "103", "102", "101");
+        assertThat(detailRequests()).allSatisfy(request -> assertThat(request.ifNoneMatch()).isNull());
+
+        // 저장: 탐색 순서(최신순)대로 전달되고, 목록 첫 번째 공지사항이 최신 url 이 됨
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CrawledNotice>> noticesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(crawledNoticePersistService).saveNotices(
+                noticesCaptor.capture(),
+                eq(noticeLink("105")),
+                eq(CrawlCategory.CAU_SW_NOTICE),
+                isNull()
+        );
+
+        List<CrawledNotice> notices = noticesCaptor.getValue();
+        assertThat(notices)
+                .extracting(CrawledNotice::getLink)
+                .containsExactly(noticeLink("105"), noticeLink("104"), noticeLink("103"), noticeLink("102"), noticeLink("101"));
+        assertThat(notices)
+                .extracting(CrawledNotice::getType)
+                .containsExactly("학사", "장학", "행사", "취업", "학사");
+
+        CrawledNotice pinnedNotice = notices.get(0);
+        assertThat(pinnedNotice.getTitle()).isEqualTo("2025학년도 1학기 수강신청 안내");
+        assertThat(pinnedNotice.getAuthor()).isEqualTo("학부사무실");
+        assertThat(pinnedNotice.getAnnounceDate()).isEqualTo(LocalDate.of(2025, 2, 10));
+        assertThat(pinnedNotice.getContent()).contains("수강신청 일정을 안내드립니다.");
+        assertThat(pinnedNotice.getImageLink()).isEqualTo(baseUrl() + "/upload/sub0501/105.png");
+        assertThat(pinnedNotice.getEtag()).isEqualTo(etag("105"));
+        assertThat(pinnedNotice.getCrawledFileLinks())
+                .extracting(CrawledFileLink::getFileName, CrawledFileLink::getFileLink)
+                .containsExactly(
+                        tuple("수강신청_일정표.pdf", "https://cse.cau.ac.kr/_module/bbs/download.php?uid=5521&code=sub0501"),
+                        tuple("교과목_목록.xlsx", "https://cse.cau.ac.kr/_module/bbs/download.php?uid=5522&code=sub0501")
+                );
+        assertThat(notices.get(1).getImageLink()).isEmpty();
+        assertThat(notices.get(1).getCrawledFileLinks()).isNull();
+
+        assertThat(crawledNoticeRepository.findAll())
+                .extracting(CrawledNotice::getLink)
+                .containsExactlyInAnyOrder(noticeLink("105"), noticeLink("104"), noticeLink("103"), noticeLink("102"), noticeLink("101"));
+        assertThat(latestCrawlRepository.findByCrawlCategory(CrawlCategory.CAU_SW_NOTICE))
+                .map(LatestCrawl::getLatestUrl)
+                .hasValue(noticeLink("105"));
+    }
+
+    @Test
+    void 다시_크롤링하면_첫_페이지만_탐색하고_변경되지_않은_공지사항은_저장하지_않는다() {
+        webCrawlerService.crawlAndSaveCAUSWNoticeSite();
+        requests.clear();
+        clearInvocations(crawledNoticePersistService);
+
+        webCrawlerService.crawlAndSaveCAUSWNoticeSite();
+
+        // 첫 페이지의 마지막 공지사항이 이미 크롤링되었으므로 다음 페이지는 요청하지 않음
+        assertThat(listRequests()).containsExactly("1");
+
+        // 첫 페이지의 공지사항만 이전 ETag 로 조건부 요청하고, 모두 304 를 받음
+        assertThat(detailRequests())
+                .extracting(StubRequest::uid, StubRequest::ifNoneMatch)
+                .containsExactlyInAnyOrder(
+                        tuple("105", etag("105")),
+                        tuple("104", etag("104")),
+                        tuple("103", etag("103"))
+                );
+
+        verify(crawledNoticePersistService, never()).saveNotices(any(), any(), any(), any());
+        assertThat(crawledNoticeRepository.count()).isEqualTo(5);
+    }
+
+    private List<String> listRequests() {
+        return requests.stream()
+                .filter(request -> request.query().containsKey("offset"))
+                .map(request -> request.query().get("offset"))
+                .toList();
+    }
+
+    private List<StubRequest> detailRequests() {
+        return requests.stream()
+                .filter(request -> request.query().containsKey("uid"))
+                .toList();
+    }
+
+    private static String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static String noticeLink(String uid) {
+        return baseUrl() + NOTICE_PATH + "?nmode=view&uid=" + uid;
+    }
+
+    private static String etag(String uid) {
+        return "\"" + uid + "-v1\"";
+    }
+
+    // 목록 페이지는 offset 에 해당하는 fixture(없으면 빈 목록), 상세 페이지는 uid 에 해당하는 fixture 를 응답
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubRequest request = new StubRequest(
+                parseQuery(exchange.getRequestURI().getRawQuery()),
+                exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH)
+        );
+        requests.add(request);
+
+        try {
+            if (request.query().containsKey("offset")) {
+                byte[] body = readFixture("list-" + request.query().get("offset") + ".html");
+                sendHtml(exchange, body != null ? body : readFixture("list-empty.html"));
+                return;
+            }
+
+            byte[] body = readFixture("detail-" + request.uid() + ".html");
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set(HttpHeaders.ETAG, etag(request.uid()));
+            if (etag(request.uid()).equals(request.ifNoneMatch())) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            sendHtml(exchange, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendHtml(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static byte[] readFixture(String fileName) throws IOException {
+        try (InputStream inputStream = WebCrawlerServiceTest.class.getResourceAsStream(FIXTURE_DIRECTORY + fileName)) {
+            return inputStream == null ? null : inputStream.readAllBytes();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null) {
+            return Map.of();
+        }
+        return Arrays.stream(rawQuery.split("&"))
+                .map(parameter -> parameter.split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair.length > 1 ? pair[1] : ""));
+    }
+
+    private record StubRequest(Map<String, String> query, String ifNoneMatch) {
+        String uid() {
+            return query.get("uid");
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package net.causw.application.locker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.causw.adapter.persistence.flag.Flag;
+import net.causw.adapter.persistence.locker.Locker;
+import net.causw.adapter.persistence.locker.LockerLocation;
+import net.causw.adapter.persistence.locker.LockerLog;
+import net.causw.adapter.persistence.repository.flag.FlagRepository;
+import net.causw.adapter.persistence.repository.locker.LockerLocationRepository;
+import net.causw.adapter.persistence.repository.locker.LockerLogRepository;
+import net.causw.adapter.persistence.repository.locker.LockerRepository;
+import net.causw.adapter.persistence.repository.textField.TextFieldRepository;
+import net.causw.adapter.persistence.repository.user.UserRepository;
+import net.causw.adapter.persistence.textfield.TextField;
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.common.CommonService;
+import net.causw.application.dto.locker.LockerUpdateRequestDto;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.model.enums.locker.LockerLogAction;
+import net.causw.domain.model.enums.user.Role;
+import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import net.causw.support.ConcurrentRunner;
+import net.causw.support.UserFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 사물함 신청이 열린 직후처럼 USER_COUNT 명이 하나의 LockerLocation 에 동시에 신청하는 상황을 재현합니다.
+ * 사물함마다 한 명만 신청에 성공하고, 나머지는 사용 중인 사물함으로 바로 거절되는지 검증하며 요청 지연 시간을 기록합니다.
+ * 이미 사물함을 가진 사용자가 다른 사물함으로 옮길 때 user_id unique 제약에 걸리지 않고 기존 사물함이 반납되는지도 검증합니다.
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        LockerService.class,
+        LockerActionFactory.class,
+        CommonService.class,
+        LockerRegistrationWindowCache.class,
+        LockerOccupancyCache.class,
+        LocalValidatorFactoryBean.class,
+        SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LockerServiceClaimLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LockerServiceClaimLoadTest.class);
+
+    private static final int USER_COUNT = 500;
+    private static final int LOCKER_COUNT = 50;
+
+    @Autowired
+    private LockerService lockerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LockerRepository lockerRepository;
+
+    @Autowired
+    private LockerLocationRepository lockerLocationRepository;
+
+    @Autowired
+    private LockerLogRepository lockerLogRepository;
+
+    @Autowired
+    private FlagRepository flagRepository;
+
+    @Autowired
+    private TextFieldRepository textFieldRepository;
+
+    @MockBean
+    private LockerStateStreamService lockerStateStreamService;
+
+    @AfterEach
+    void tearDown() {
+        lockerLogRepository.deleteAllInBatch();
+        lockerRepository.deleteAllInBatch();
+        lockerLocationRepository.deleteAllInBatch();
+        flagRepository.deleteAllInBatch();
+        textFieldRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 한_위치에_500명이_동시에_신청하면_사물함마다_한_명만_성공한다() throws Exception {
+        openRegistration();
+        LockerLocation lockerLocation = lockerLocationRepository.save(LockerLocation.of("2층"));
+        List<Locker> lockers = lockerRepository.saveAll(
+                LongStream.rangeClosed(1, LOCKER_COUNT)
+                        .mapToObj(lockerNumber -> Locker.of(lockerNumber, true, null, lockerLocation, null))
+                        .toList()
+        );
+        List<User> users = userRepository.saveAll(
+                IntStream.range(0, USER_COUNT).mapToObj(this::activeUser).toList()
+        );
+
+        long[] elapsedNanos = new long[USER_COUNT];
+        long startedAt = System.nanoTime();
+        List<Optional<Throwable>> results = ConcurrentRunner.run(USER_COUNT, index -> {
+            long requestedAt = System.nanoTime();
+            try {
+                lockerService.update(
+                        users.get(index),
+                        lockers.get(index % LOCKER_COUNT).getId(),
+                        new LockerUpdateRequestDto(LockerLogAction.REGISTER.name(), null)
+                );
+            } finally {
+                elapsedNanos[index] = System.nanoTime() - requestedAt;
+            }
+        });
+        long totalNanos = System.nanoTime() - startedAt;
+
+        List<Throwable> failures = results.stream().flatMap(Optional::stream).toList();
+        assertThat(results.stream().filter(Optional::isEmpty)).hasSize(LOCKER_COUNT);
+        assertThat(failures).hasSize(USER_COUNT - LOCKER_COUNT)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOf(BadRequestException.class)
+                        .hasMessage(MessageUtil.LOCKER_USED));
+
+        // 사물함마다 해당 사물함에 신청한 사용자 중 한 명이 배정되고, 한 사용자가 두 개를 가지지 않음
+        Map<String, Locker> claimedLockers = lockerRepository.findAll().stream()
+                .collect(Collectors.toMap(Locker::getId, Function.identity()));
+        Set<String> ownerIds = new HashSet<>();
+        for (int lockerIndex = 0; lockerIndex < LOCKER_COUNT; lockerIndex++) {
+            Locker locker = claimedLockers.get(lockers.get(lockerIndex).getId());
+            assertThat(locker.getIsActive()).isFalse();
+            assertThat(locker.getUser()).isPresent();
+
+            int ownerIndex = IntStream.range(0, USER_COUNT)
+                    .filter(index -> users.get(index).getId().equals(locker.getUser().get().getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(ownerIndex % LOCKER_COUNT).isEqualTo(lockerIndex);
+            assertThat(results.get(ownerIndex)).isEmpty();
+            ownerIds.add(locker.getUser().get().getId());
+        }
+        assertThat(ownerIds).hasSize(LOCKER_COUNT);
+        assertThat(lockerLogRepository.count()).isEqualTo(LOCKER_COUNT);
+
+        logLatency(elapsedNanos, totalNanos);
+    }
+
+    @Test
+    void 이미_사물함을_가진_사용자가_다른_사물함을_신청하면_기존_사물함을_반납하고_새_사물함을_배정받는다() {
+        openRegistration();
+        LockerLocation lockerLocation = lockerLocationRepository.save(LockerLocation.of("3층"));
+        User user = userRepository.save(activeUser(0));
+        Locker previousLocker = lockerRepository.save(
+                Locker.of(1L, false, user, lockerLocation, LocalDateTime.now().plusMonths(6))
+        );
+        Locker nextLocker = lockerRepository.save(Locker.of(2L, true, null, lockerLocation, null));
+
+        lockerService.update(
+                user,
+                nextLocker.getId(),
+                new LockerUpdateRequestDto(LockerLogAction.REGISTER.name(), null)
+        );
+
+        Locker returned = lockerRepository.findById(previousLocker.getId()).orElseThrow();
+        assertThat(returned.getUser()).isEmpty();
+        assertThat(returned.getIsActive()).isTrue();
+        assertThat(returned.getExpireDate()).isNull();
+
+        Locker registered = lockerRepository.findById(nextLocker.getId()).orElseThrow();
+        assertThat(registered.getUser()).map(User::getId).hasValue(user.getId());
+        assertThat(registered.getIsActive()).isFalse();
+
+        assertThat(lockerRepository.findByUser_Id(user.getId())).map(Locker::getId).hasValue(nextLocker.getId());
+        assertThat(lockerLogRepository.findAll())
+                .extracting(LockerLog::getLockerNumber, LockerLog::getAction)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, LockerLogAction.RETURN),
+                        tuple(2L, LockerLogAction.REGISTER)
+                );
+    }
+
+    @Test
+    void 이미_사용_중인_사물함을_신청하면_기존_사물함은_반납되지_않는다() {
+        openRegistration();
+        LockerLocation lockerLocation = lockerLocationRepository.save(LockerLocation.of("3층"));
+        User user = userRepository.save(activeUser(0));
+        User otherUser = userRepository.save(activeUser(1));
+        Locker previousLocker = lockerRepository.save(
+                Locker.of(1L, false, user, lockerLocation, LocalDateTime.now().plusMonths(6))
+        );
+        Locker usedLocker = lockerRepository.save(
+                Locker.of(2L, false, otherUser, lockerLocation, LocalDateTime.now().plusMonths(6))
+        );
+
+        assertThatThrownBy(() -> lockerService.update(
+                user,
+                usedLocker.getId(),
+                new LockerUpdateRequestDto(LockerLogAction.REGISTER.name(), null)
+        ))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(MessageUtil.LOCKER_USED);
+
+        // 배정에 실패하면 트랜잭션이 롤백되어 먼저 반납한 기존 사물함이 그대로 유지됨
+        assertThat(lockerRepository.findById(previousLocker.getId()).orElseThrow().getUser())
+                .map(User::getId)
+                .hasValue(user.getId());
+        assertThat(lockerLogRepository.count()).isZero();
+    }
+
+    private void openRegistration() {
+        flagRepository.save(Flag.of(StaticValue.LOCKER_ACCESS, true));
+        textFieldRepository.save(TextField.of(
+                StaticValue.EXPIRED_AT,
+                LocalDateTime.now().plusMonths(6).format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"))
+        ));
+    }
+
+    private User activeUser(int index) {
+        User user = UserFixture.create(index);
+        user.setState(UserState.ACTIVE);
+        user.setRoles(new HashSet<>(Set.of(Role.COMMON)));
+        return user;
+    }
+
+    private void logLatency(long[] elapsedNanos, long totalNanos) {
+        long[] sorted = Arrays.stream(elapsedNanos).sorted().toArray();
+        log.info(
+                "locker claim burst: users={}, lockers={}, total={}ms, p50={}ms, p95={}ms, p99={}ms, max={}ms",
+                USER_COUNT,
+                LOCKER_COUNT,
+                totalNanos / 1_000_000,
+                percentile(sorted, 50) / 1_000_000,
+                percentile(sorted, 95) / 1_000_000,
+                percentile(sorted, 99) / 1_000_000,
+                sorted[sorted.length - 1] / 1_000_000
+        );
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,163 @@
+package net.causw.application.vote;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.causw.adapter.persistence.repository.user.UserRepository;
+import net.causw.adapter.persistence.repository.vote.VoteOptionRepository;
+import net.causw.adapter.persistence.repository.vote.VoteRecordRepository;
+import net.causw.adapter.persistence.repository.vote.VoteRepository;
+import net.causw.adapter.persistence.user.User;
+import net.causw.adapter.persistence.vote.Vote;
+import net.causw.adapter.persistence.vote.VoteOption;
+import net.causw.adapter.persistence.vote.VoteRecord;
+import net.causw.application.dto.vote.CastVoteRequestDto;
+import net.causw.application.pageable.PageableFactory;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.support.ConcurrentRunner;
+import net.causw.support.UserFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 사용자의 투표 요청이 동시에 들어와도 unique 제약으로 한 번만 기록되는지 검증합니다.
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VoteService.class, VoteTallyLoader.class, PageableFactory.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VoteServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 20;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VoteOptionRepository voteOptionRepository;
+
+    @Autowired
+    private VoteRecordRepository voteRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        voteRecordRepository.deleteAllInBatch();
+        voteOptionRepository.deleteAllInBatch();
+        voteRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 단일_선택_투표에_서로_다른_옵션으로_동시에_투표하면_하나만_기록된다() throws Exception {
+        User user = userRepository.save(UserFixture.create(1));
+        List<VoteOption> voteOptions = saveVote(false, "1번", "2번");
+
+        List<Optional<Throwable>> results = ConcurrentRunner.run(THREAD_COUNT, index ->
+                voteService.castVote(castVoteRequest(voteOptions.get(index % 2).getId()), user)
+        );
+
+        List<VoteRecord> voteRecords = voteRecordRepository.findAll();
+        assertThat(voteRecords).hasSize(1);
+
+        // 기록된 옵션으로 투표한 요청만 성공하고, 나머지는 이미 투표한 것으로 거절됨
+        String recordedOptionId = voteRecords.get(0).getVoteOption().getId();
+        for (int index = 0; index < THREAD_COUNT; index++) {
+            Optional<Throwable> result = results.get(index);
+            if (voteOptions.get(index % 2).getId().equals(recordedOptionId)) {
+                assertThat(result).isEmpty();
+            } else {
+                assertThat(result).hasValueSatisfying(this::isVoteAlreadyDone);
+            }
+        }
+    }
+
+    @Test
+    void 복수_선택_투표에_같은_옵션으로_동시에_투표해도_옵션마다_한_번만_기록된다() throws Exception {
+        User user = userRepository.save(UserFixture.create(1));
+        List<VoteOption> voteOptions = saveVote(true, "1번", "2번", "3번");
+
+        List<Optional<Throwable>> results = ConcurrentRunner.run(THREAD_COUNT, index ->
+                voteService.castVote(castVoteRequest(voteOptions.get(0).getId(), voteOptions.get(1).getId()), user)
+        );
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isEmpty());
+        assertThat(voteRecordRepository.findAll())
+                .extracting(voteRecord -> voteRecord.getVoteOption().getId())
+                .containsExactlyInAnyOrder(voteOptions.get(0).getId(), voteOptions.get(1).getId());
+    }
+
+    @Test
+    void 여러_사용자가_동시에_투표하면_모두_기록된다() throws Exception {
+        List<User> users = userRepository.saveAll(
+                IntStream.range(0, THREAD_COUNT).mapToObj(UserFixture::create).toList()
+        );
+        List<VoteOption> voteOptions = saveVote(false, "1번", "2번");
+
+        List<Optional<Throwable>> results = ConcurrentRunner.run(THREAD_COUNT, index ->
+                voteService.castVote(castVoteRequest(voteOptions.get(index % 2).getId()), users.get(index))
+        );
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isEmpty());
+        assertThat(voteRecordRepository.count()).isEqualTo(THREAD_COUNT);
+    }
+
+    @Test
+    void 마이그레이션_전_단일_선택_기록이_있으면_다른_옵션에_투표할_수_없다() {
+        User user = userRepository.save(UserFixture.create(1));
+        List<VoteOption> voteOptions = saveVote(false, "1번", "2번");
+
+        // single_choice_vote_id 가 채워지기 전의 기록
+        voteService.castVote(castVoteRequest(voteOptions.get(0).getId()), user);
+        jdbcTemplate.update("UPDATE tb_vote_record SET single_choice_vote_id = NULL");
+
+        assertThatThrownBy(() -> voteService.castVote(castVoteRequest(voteOptions.get(1).getId()), user))
+                .satisfies(this::isVoteAlreadyDone);
+        assertThat(voteRecordRepository.count()).isEqualTo(1);
+
+        // 같은 옵션 재요청은 성공 처리
+        voteService.castVote(castVoteRequest(voteOptions.get(0).getId()), user);
+        assertThat(voteRecordRepository.count()).isEqualTo(1);
+    }
+
+    private List<VoteOption> saveVote(boolean allowMultiple, String... optionNames) {
+        List<VoteOption> voteOptions = Arrays.stream(optionNames).map(VoteOption::of).toList();
+        Vote vote = voteRepository.save(Vote.of("투표", false, allowMultiple, voteOptions, null));
+        voteOptions.forEach(voteOption -> voteOption.updateVote(vote));
+        return voteOptionRepository.saveAll(voteOptions);
+    }
+
+    private CastVoteRequestDto castVoteRequest(String... voteOptionIds) {
+        CastVoteRequestDto castVoteRequestDto = new CastVoteRequestDto();
+        castVoteRequestDto.setVoteOptionIdList(List.of(voteOptionIds));
+        return castVoteRequestDto;
+    }
+
+    private void isVoteAlreadyDone(Throwable throwable) {
+        assertThat(throwable).isInstanceOf(BadRequestException.class)
+                .hasMessage(MessageUtil.VOTE_ALREADY_DONE);
+    }
+}
@@ -0,0 +1,55 @@
+package net.causw.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 여러 스레드에서 작업을 동시에 시작하고, 스레드별 결과(성공 시 빈 값, 실패 시 예외)를 반환합니다.
+ */
+public class ConcurrentRunner {
+
+    private ConcurrentRunner() {
+    }
+
+    public static List<Optional<Throwable>> run(int threadCount, IntConsumer task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch readyLatch = new CountDownLatch(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<Optional<Throwable>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                int index = i;
+                futures.add(executorService.submit(() -> {
+                    readyLatch.countDown();
+                    startLatch.await();
+                    try {
+                        task.accept(index);
+                        return Optional.<Throwable>empty();
+                    } catch (Throwable e) {
+                        return Optional.of(e);
+                    }
+                }));
+            }
+
+            // 모든 스레드가 준비된 후 한 번에 시작
+            readyLatch.await();
+            startLatch.countDown();
+
+            List<Optional<Throwable>> results = new ArrayList<>();
+            for (Future<Optional<Throwable>> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
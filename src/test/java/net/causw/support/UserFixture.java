@@ -0,0 +1,27 @@
+package net.causw.support;
+
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.user.UserCreateRequestDto;
+
+public class UserFixture {
+
+    private UserFixture() {
+    }
+
+    // unique 컬럼(email, 학번, 닉네임, 전화번호)이 겹치지 않도록 index 로 구분합니다.
+    public static User create(int index) {
+        return User.from(
+                UserCreateRequestDto.builder()
+                        .email("user" + index + "@cau.ac.kr")
+                        .name("사용자" + index)
+                        .password("password00!!")
+                        .studentId(String.format("2024%04d", index))
+                        .admissionYear(2024)
+                        .nickname("nickname" + index)
+                        .major("소프트웨어학부")
+                        .phoneNumber(String.format("010-0000-%04d", index))
+                        .build(),
+                "encodedPassword"
+        );
+    }
+}